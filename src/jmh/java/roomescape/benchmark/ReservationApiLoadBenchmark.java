@@ -0,0 +1,240 @@
+package roomescape.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import roomescape.RoomescapeApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class ReservationApiLoadBenchmark {
+
+    private static final int TIME_COUNT = 24;
+    private static final long KEEP_ALIVE_INTERVAL_SECONDS = 5;
+    private static final int IDLE_READ_TIMEOUT_MILLIS = 5000;
+    private static final byte[] IDLE_REQUEST = (
+            "GET /times HTTP/1.1\r\nHost: localhost\r\nAccept: application/json\r\n\r\n"
+    ).getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    @Param({"0", "2000"})
+    private int idleConnections;
+
+    @Param({"1000"})
+    private int reservationCount;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private final List<Socket> idleSockets = new ArrayList<>();
+    private ScheduledExecutorService keepAlive;
+    private volatile int failedKeepAlives;
+    private URI timesUri;
+    private URI reservationsUri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(RoomescapeApplication.class)
+                .properties("server.port=0", "roomescape.warm-up.enabled=false");
+        if ("reactive".equals(stack)) {
+            builder.profiles("reactive");
+        }
+        context = builder.run();
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        timesUri = URI.create("http://localhost:" + port + "/times");
+        reservationsUri = URI.create("http://localhost:" + port + "/reservations");
+        seed();
+        openIdleConnections(port);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        keepAlive.shutdownNow();
+        keepAlive.awaitTermination(KEEP_ALIVE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        long closedByServer = idleSockets.stream()
+                .filter(this::isClosedByServer)
+                .count();
+        for (Socket socket : idleSockets) {
+            socket.close();
+        }
+        context.close();
+        if (closedByServer > 0 || failedKeepAlives > 0) {
+            throw new IllegalStateException("유휴 연결 " + idleConnections + "개 중 " + closedByServer
+                    + "개가 측정 도중 서버에 의해 닫혔습니다. 유지 요청 실패: " + failedKeepAlives + "회");
+        }
+    }
+
+    @Benchmark
+    public int readTimes() throws IOException, InterruptedException {
+        return get(timesUri);
+    }
+
+    @Benchmark
+    public int readReservations() throws IOException, InterruptedException {
+        return get(reservationsUri);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = client.send(request, BodyHandlers.ofByteArray());
+        return response.body().length;
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        List<Long> timeIds = new ArrayList<>(TIME_COUNT);
+        for (int hour = 0; hour < TIME_COUNT; hour++) {
+            String body = "{\"startAt\":\"%02d:00\"}".formatted(hour);
+            timeIds.add(post(timesUri, body));
+        }
+        for (int i = 0; i < reservationCount; i++) {
+            String body = "{\"name\":\"name%d\",\"date\":\"2024-05-%02d\",\"timeId\":%d}"
+                    .formatted(i, 1 + i % 28, timeIds.get(i % TIME_COUNT));
+            post(reservationsUri, body);
+        }
+    }
+
+    private long post(URI uri, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = client.send(request, BodyHandlers.ofString()).body();
+        int start = response.indexOf("\"id\":") + "\"id\":".length();
+        int end = start;
+        while (end < response.length() && Character.isDigit(response.charAt(end))) {
+            end++;
+        }
+        return Long.parseLong(response.substring(start, end));
+    }
+
+    private void openIdleConnections(int port) throws IOException {
+        for (int i = 0; i < idleConnections; i++) {
+            Socket socket = new Socket("localhost", port);
+            socket.setSoTimeout(IDLE_READ_TIMEOUT_MILLIS);
+            exchange(socket);
+            idleSockets.add(socket);
+        }
+        keepAlive = Executors.newSingleThreadScheduledExecutor();
+        keepAlive.scheduleWithFixedDelay(
+                this::revisitIdleConnections,
+                KEEP_ALIVE_INTERVAL_SECONDS,
+                KEEP_ALIVE_INTERVAL_SECONDS,
+                TimeUnit.SECONDS
+        );
+    }
+
+    private void revisitIdleConnections() {
+        for (Socket socket : idleSockets) {
+            try {
+                exchange(socket);
+            } catch (IOException e) {
+                failedKeepAlives++;
+            }
+        }
+    }
+
+    private void exchange(Socket socket) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write(IDLE_REQUEST);
+        out.flush();
+        InputStream in = new BufferedInputStream(socket.getInputStream());
+        String statusLine = readLine(in);
+        if (!statusLine.startsWith("HTTP/1.1 200")) {
+            throw new IOException("유휴 연결의 요청이 실패했습니다. " + statusLine);
+        }
+        long contentLength = 0;
+        boolean chunked = false;
+        for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+            String lower = header.toLowerCase(Locale.ROOT);
+            if (lower.startsWith("content-length:")) {
+                contentLength = Long.parseLong(lower.substring("content-length:".length()).trim());
+            } else if (lower.startsWith("transfer-encoding:") && lower.contains("chunked")) {
+                chunked = true;
+            }
+        }
+        if (chunked) {
+            skipChunkedBody(in);
+        } else {
+            in.skipNBytes(contentLength);
+        }
+    }
+
+    private void skipChunkedBody(InputStream in) throws IOException {
+        while (true) {
+            long size = Long.parseLong(readLine(in).split(";")[0].trim(), 16);
+            if (size == 0) {
+                String trailer;
+                do {
+                    trailer = readLine(in);
+                } while (!trailer.isEmpty());
+                return;
+            }
+            in.skipNBytes(size);
+            readLine(in);
+        }
+    }
+
+    private String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int read;
+        while ((read = in.read()) != '\n') {
+            if (read == -1) {
+                throw new EOFException("서버가 유휴 연결을 닫았습니다.");
+            }
+            if (read != '\r') {
+                line.append((char) read);
+            }
+        }
+        return line.toString();
+    }
+
+    private boolean isClosedByServer(Socket socket) {
+        try {
+            socket.setSoTimeout(1);
+            socket.getInputStream().read();
+            return true;
+        } catch (SocketTimeoutException e) {
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+}
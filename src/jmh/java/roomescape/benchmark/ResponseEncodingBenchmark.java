@@ -0,0 +1,76 @@
+package roomescape.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEncodingBenchmark {
+
+    private static final TypeReference<List<ReservationResponse>> RESPONSES_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private List<ReservationResponse> responses;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        responses = IntStream.range(0, size)
+                .mapToObj(i -> ReservationResponse.of(
+                        (long) i,
+                        "name" + i,
+                        "2024-04-" + (10 + i % 20),
+                        ReservationTimeResponse.of((long) i % 24, String.format("%02d:00", i % 24))
+                ))
+                .toList();
+        json = jsonMapper.writeValueAsBytes(responses);
+        cbor = cborMapper.writeValueAsBytes(responses);
+        System.out.printf("%n[payload] size=%d json=%d bytes cbor=%d bytes (%.1f%%)%n",
+                size, json.length, cbor.length, 100.0 * cbor.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<ReservationResponse> decodeJson() throws IOException {
+        return jsonMapper.readValue(json, RESPONSES_TYPE);
+    }
+
+    @Benchmark
+    public List<ReservationResponse> decodeCbor() throws IOException {
+        return cborMapper.readValue(cbor, RESPONSES_TYPE);
+    }
+}
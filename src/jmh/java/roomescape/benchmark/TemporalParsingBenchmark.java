@@ -0,0 +1,51 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservationtime.ReservationStartAt;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemporalParsingBenchmark {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final String[] dates = {"2024-04-24", "2023-12-31", "2024-02-29", "2022-07-01"};
+    private final String[] times = {"10:00", "13:30", "23:59", "00:05"};
+    private int index;
+
+    @Benchmark
+    public String dateWithLocalDateParse() {
+        return LocalDate.parse(dates[next()]).toString();
+    }
+
+    @Benchmark
+    public String dateWithFixedFormatParser() {
+        return ReservationDate.from(dates[next()]).toStringDate();
+    }
+
+    @Benchmark
+    public String timeWithLocalTimeParse() {
+        return LocalTime.parse(times[next()]).format(TIME_FORMATTER);
+    }
+
+    @Benchmark
+    public String timeWithCanonicalInstances() {
+        return ReservationStartAt.from(times[next()]).toStringTime();
+    }
+
+    private int next() {
+        index = (index + 1) & 3;
+        return index;
+    }
+}
@@ -0,0 +1,127 @@
+package roomescape.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import roomescape.RoomescapeApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class WebServerBenchmark {
+
+    private static final int TIME_COUNT = 24;
+
+    @Param({"200"})
+    private int reservationCount;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI timesUri;
+    private URI reservationsUri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = new SpringApplicationBuilder(RoomescapeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "roomescape.warm-up.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        timesUri = URI.create("http://localhost:" + port + "/times");
+        reservationsUri = URI.create("http://localhost:" + port + "/reservations");
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        WebServerApplicationContext webContext = (WebServerApplicationContext) context;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        System.out.printf(
+                "%nweb server: %s, heap used after GC: %d KiB, non-heap used: %d KiB, live threads: %d%n",
+                webContext.getWebServer().getClass().getSimpleName(),
+                memory.getHeapMemoryUsage().getUsed() / 1024,
+                memory.getNonHeapMemoryUsage().getUsed() / 1024,
+                ManagementFactory.getThreadMXBean().getThreadCount()
+        );
+        context.close();
+    }
+
+    @Benchmark
+    public int readTimes() throws IOException, InterruptedException {
+        return get(timesUri);
+    }
+
+    @Benchmark
+    public int readReservations() throws IOException, InterruptedException {
+        return get(reservationsUri);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = client.send(request, BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " 요청이 " + response.statusCode() + " 상태로 실패했습니다.");
+        }
+        return response.body().length;
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        List<Long> timeIds = new ArrayList<>(TIME_COUNT);
+        for (int hour = 0; hour < TIME_COUNT; hour++) {
+            String body = "{\"startAt\":\"%02d:00\"}".formatted(hour);
+            timeIds.add(post(timesUri, body));
+        }
+        for (int i = 0; i < reservationCount; i++) {
+            String body = "{\"name\":\"name%d\",\"date\":\"2024-05-%02d\",\"timeId\":%d}"
+                    .formatted(i, 1 + i % 28, timeIds.get(i % TIME_COUNT));
+            post(reservationsUri, body);
+        }
+    }
+
+    private long post(URI uri, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = client.send(request, BodyHandlers.ofString()).body();
+        int start = response.indexOf("\"id\":") + "\"id\":".length();
+        int end = start;
+        while (end < response.length() && Character.isDigit(response.charAt(end))) {
+            end++;
+        }
+        return Long.parseLong(response.substring(start, end));
+    }
+}
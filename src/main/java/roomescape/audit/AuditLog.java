@@ -0,0 +1,135 @@
+package roomescape.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeOperation;
+
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final int DRAIN_BATCH_SIZE = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_WARN_INTERVAL = 1000;
+
+    private final AuditRingBuffer ringBuffer;
+    private final AuditSegmentStore segmentStore;
+    private final long forceIntervalNanos;
+    private final boolean backpressure;
+    private final long backpressureTimeoutNanos;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running;
+
+    public AuditLog(@Value("${roomescape.audit.directory:audit}") String directory,
+                    @Value("${roomescape.audit.buffer-capacity:65536}") int bufferCapacity,
+                    @Value("${roomescape.audit.segment-bytes:4194304}") int segmentBytes,
+                    @Value("${roomescape.audit.max-segments:64}") int maxSegments,
+                    @Value("${roomescape.audit.force-interval-millis:1000}") long forceIntervalMillis,
+                    @Value("${roomescape.audit.backpressure.enabled:false}") boolean backpressure,
+                    @Value("${roomescape.audit.backpressure.timeout-millis:100}") long backpressureTimeoutMillis) {
+        this.ringBuffer = new AuditRingBuffer(bufferCapacity);
+        this.segmentStore = new AuditSegmentStore(Path.of(directory), segmentBytes, maxSegments);
+        this.forceIntervalNanos = TimeUnit.MILLISECONDS.toNanos(forceIntervalMillis);
+        this.backpressure = backpressure;
+        this.backpressureTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(backpressureTimeoutMillis);
+        this.writer = new Thread(this::runWriter, "audit-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void record(ChangeEntityType entityType, ChangeOperation operation, long entityId) {
+        long timestampMillis = System.currentTimeMillis();
+        byte type = (byte) entityType.ordinal();
+        byte op = (byte) operation.ordinal();
+        if (ringBuffer.offer(timestampMillis, type, op, entityId)) {
+            return;
+        }
+        if (!backpressure || !offerUntilTimeout(timestampMillis, type, op, entityId)) {
+            drop(entityType, operation, entityId);
+        }
+    }
+
+    public List<AuditRecord> find(long fromMillis, long toMillis, int limit) {
+        try {
+            return segmentStore.read(fromMillis, toMillis, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그를 읽지 못했습니다.", e);
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private void runWriter() {
+        long lastForcedAt = System.nanoTime();
+        while (running || !ringBuffer.isEmpty()) {
+            int drained = ringBuffer.drain(this::write, DRAIN_BATCH_SIZE);
+            if (System.nanoTime() - lastForcedAt >= forceIntervalNanos) {
+                segmentStore.force();
+                lastForcedAt = System.nanoTime();
+            }
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        try {
+            segmentStore.close();
+        } catch (IOException e) {
+            log.warn("감사 로그 파일을 닫지 못했습니다.", e);
+        }
+    }
+
+    private boolean offerUntilTimeout(long timestampMillis, byte entityType, byte operation, long entityId) {
+        long deadline = System.nanoTime() + backpressureTimeoutNanos;
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+            if (ringBuffer.offer(timestampMillis, entityType, operation, entityId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drop(ChangeEntityType entityType, ChangeOperation operation, long entityId) {
+        dropped.increment();
+        long total = dropped.sum();
+        if (total == 1 || total % DROP_WARN_INTERVAL == 0) {
+            log.warn("감사 로그 버퍼가 가득 차 기록을 버렸습니다. entityType={}, operation={}, entityId={}, 누적={}",
+                    entityType, operation, entityId, total);
+        }
+    }
+
+    private void write(long timestampMillis, byte entityType, byte operation, long entityId) {
+        try {
+            segmentStore.append(timestampMillis, entityType, operation, entityId);
+        } catch (IOException e) {
+            log.warn("감사 로그를 기록하지 못했습니다. entityId={}", entityId, e);
+        }
+    }
+}
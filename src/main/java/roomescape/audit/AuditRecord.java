@@ -0,0 +1,10 @@
+package roomescape.audit;
+
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeOperation;
+
+public record AuditRecord(long timestampMillis,
+                          ChangeEntityType entityType,
+                          ChangeOperation operation,
+                          long entityId) {
+}
@@ -0,0 +1,73 @@
+package roomescape.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final long[] timestamps;
+    private final long[] entityIds;
+    private final byte[] entityTypes;
+    private final byte[] operations;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    public AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("감사 로그 버퍼 크기는 2 이상의 2의 거듭제곱이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.entityIds = new long[capacity];
+        this.entityTypes = new byte[capacity];
+        this.operations = new byte[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    public boolean offer(long timestampMillis, byte entityType, byte operation, long entityId) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= capacity) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        int slot = (int) sequence & mask;
+        timestamps[slot] = timestampMillis;
+        entityIds[slot] = entityId;
+        entityTypes[slot] = entityType;
+        operations[slot] = operation;
+        published.set(slot, sequence + 1);
+        return true;
+    }
+
+    public int drain(RecordHandler handler, int maxRecords) {
+        long next = consumed;
+        int drained = 0;
+        while (drained < maxRecords) {
+            int slot = (int) next & mask;
+            if (published.get(slot) != next + 1) {
+                break;
+            }
+            handler.handle(timestamps[slot], entityTypes[slot], operations[slot], entityIds[slot]);
+            next++;
+            drained++;
+        }
+        consumed = next;
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        return claimed.get() == consumed;
+    }
+
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        void handle(long timestampMillis, byte entityType, byte operation, long entityId);
+    }
+}
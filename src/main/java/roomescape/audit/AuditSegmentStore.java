@@ -0,0 +1,175 @@
+package roomescape.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeOperation;
+
+public class AuditSegmentStore {
+
+    static final int RECORD_BYTES = 1 + 1 + 1 + Long.BYTES + Long.BYTES;
+
+    private static final int MAGIC = 0x52414C47;
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + 1;
+    private static final byte RECORD_MARKER = 1;
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".log";
+    private static final long SEGMENT_SKEW_MILLIS = 1000;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private FileChannel channel;
+    private MappedByteBuffer current;
+
+    public AuditSegmentStore(Path directory, int segmentBytes, int maxSegments) {
+        if (segmentBytes < HEADER_BYTES + RECORD_BYTES) {
+            throw new IllegalArgumentException("감사 로그 파일 크기가 너무 작습니다.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+    }
+
+    public void append(long timestampMillis, byte entityType, byte operation, long entityId) throws IOException {
+        if (current == null || current.remaining() < RECORD_BYTES) {
+            rotate(timestampMillis);
+        }
+        int position = current.position();
+        current.put(position + 1, entityType);
+        current.put(position + 2, operation);
+        current.putLong(position + 3, timestampMillis);
+        current.putLong(position + 11, entityId);
+        current.put(position, RECORD_MARKER);
+        current.position(position + RECORD_BYTES);
+    }
+
+    public void force() {
+        if (current != null) {
+            current.force();
+        }
+    }
+
+    public void close() throws IOException {
+        if (current != null) {
+            current.force();
+            current = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    public List<AuditRecord> read(long fromMillis, long toMillis, int limit) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        List<Path> segments = listSegments();
+        for (int i = 0; i < segments.size() && records.size() < limit; i++) {
+            long segmentStart = startOf(segments.get(i));
+            if (segmentStart > toMillis) {
+                break;
+            }
+            boolean endsBeforeRange = i + 1 < segments.size()
+                    && startOf(segments.get(i + 1)) + SEGMENT_SKEW_MILLIS < fromMillis;
+            if (!endsBeforeRange) {
+                readSegment(segments.get(i), fromMillis, toMillis, limit, records);
+            }
+        }
+        return records;
+    }
+
+    private void rotate(long timestampMillis) throws IOException {
+        close();
+        Files.createDirectories(directory);
+        long start = timestampMillis;
+        while (true) {
+            try {
+                channel = FileChannel.open(
+                        directory.resolve(fileName(start)),
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE
+                );
+                break;
+            } catch (FileAlreadyExistsException e) {
+                start++;
+            }
+        }
+        current = channel.map(MapMode.READ_WRITE, 0, segmentBytes);
+        current.putInt(MAGIC);
+        current.put(VERSION);
+        pruneSegments();
+    }
+
+    private void readSegment(Path segment,
+                             long fromMillis,
+                             long toMillis,
+                             int limit,
+                             List<AuditRecord> records) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = readChannel.map(MapMode.READ_ONLY, 0, readChannel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                return;
+            }
+            while (buffer.remaining() >= RECORD_BYTES && records.size() < limit) {
+                int position = buffer.position();
+                if (buffer.get(position) != RECORD_MARKER) {
+                    return;
+                }
+                long timestampMillis = buffer.getLong(position + 3);
+                if (timestampMillis >= fromMillis && timestampMillis <= toMillis) {
+                    records.add(new AuditRecord(
+                            timestampMillis,
+                            ChangeEntityType.values()[buffer.get(position + 1)],
+                            ChangeOperation.values()[buffer.get(position + 2)],
+                            buffer.getLong(position + 11)
+                    ));
+                }
+                buffer.position(position + RECORD_BYTES);
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        }
+    }
+
+    private void pruneSegments() throws IOException {
+        List<Path> segments = listSegments();
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private String fileName(long startMillis) {
+        return String.format("%s%020d%s", FILE_PREFIX, startMillis, FILE_SUFFIX);
+    }
+
+    private long startOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+}
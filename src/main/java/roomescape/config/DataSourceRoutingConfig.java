@@ -0,0 +1,49 @@
+package roomescape.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import roomescape.dao.routing.ReadWriteRoutingDataSource;
+
+@Configuration
+@ConditionalOnExpression(
+        "${roomescape.datasource.routing.enabled:false} and !${roomescape.datasource.sharding.enabled:false}"
+)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource(DataSourceProperties properties,
+                                        @Value("${roomescape.datasource.replica.url}") String url,
+                                        @Value("${roomescape.datasource.replica.initialize-schema:false}")
+                                        boolean initializeSchema) {
+        DataSource replica = DataSourceBuilder.create()
+                .url(url)
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .build();
+        if (initializeSchema) {
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(replica);
+        }
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+}
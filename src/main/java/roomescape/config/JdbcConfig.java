@@ -0,0 +1,23 @@
+package roomescape.config;
+
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import roomescape.dao.slowquery.SlowQueryRecorder;
+import roomescape.dao.slowquery.StatementTimingDataSource;
+
+@Configuration
+public class JdbcConfig {
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, SlowQueryRecorder slowQueryRecorder) {
+        return new JdbcTemplate(new StatementTimingDataSource(dataSource, slowQueryRecorder));
+    }
+
+    @Bean
+    public JdbcTransactionManager transactionManager(JdbcTemplate jdbcTemplate) {
+        return new JdbcTransactionManager(jdbcTemplate.getDataSource());
+    }
+}
@@ -0,0 +1,55 @@
+package roomescape.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import roomescape.dao.routing.ShardRoutingDataSource;
+import roomescape.dao.routing.ShardSchemaInitializer;
+
+@Configuration
+@ConditionalOnProperty(name = "roomescape.datasource.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(DataSourceProperties properties,
+                                             @Value("${roomescape.datasource.sharding.count}") int count,
+                                             @Value("${roomescape.datasource.sharding.url-template}")
+                                             String urlTemplate) {
+        List<DataSource> shards = new ArrayList<>(count);
+        shards.add(properties.initializeDataSourceBuilder().build());
+        for (int shard = 1; shard < count; shard++) {
+            shards.add(DataSourceBuilder.create()
+                    .url(String.format(urlTemplate, shard))
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build());
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardRoutingDataSource dataSource) {
+        return new ShardSchemaInitializer(dataSource.getShards());
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "roomescape.datasource.routing.enabled", havingValue = "true")
+    static class ReadWriteRoutingRejection {
+
+        ReadWriteRoutingRejection() {
+            throw new IllegalStateException(
+                    "샤딩과 읽기/쓰기 분리 라우팅은 함께 사용할 수 없습니다. "
+                            + "roomescape.datasource.sharding.enabled와 "
+                            + "roomescape.datasource.routing.enabled 중 하나만 켜 주세요."
+            );
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package roomescape.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final Duration VERSIONED_RESOURCE_MAX_AGE = Duration.ofDays(365);
+    private static final String VERSIONED_FILE = "{file:.+-[0-9a-f]{32}\\.[a-z0-9]+}";
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public WebConfig(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/" + VERSIONED_FILE, "/{directory}/" + VERSIONED_FILE)
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.maxAge(VERSIONED_RESOURCE_MAX_AGE).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(versionResourceResolver());
+        registry.addResourceHandler("/**")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(versionResourceResolver());
+    }
+
+    private VersionResourceResolver versionResourceResolver() {
+        return new VersionResourceResolver().addContentVersionStrategy("/**");
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build()
+        ));
+    }
+}
@@ -0,0 +1,54 @@
+package roomescape.config;
+
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class WebServerConfig {
+
+    @Configuration
+    @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+    static class TomcatServerConfig {
+
+        @Bean
+        public WebServerFactoryCustomizer<TomcatServletWebServerFactory> tomcatBufferCustomizer(
+                @Value("${roomescape.web-server.buffer-bytes:16384}") int bufferBytes) {
+            return factory -> factory.addConnectorCustomizers(connector -> {
+                connector.setProperty("socket.appReadBufSize", String.valueOf(bufferBytes));
+                connector.setProperty("socket.appWriteBufSize", String.valueOf(bufferBytes));
+            });
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.eclipse.jetty.server.Server")
+    static class JettyServerConfig {
+
+        @Bean
+        public WebServerFactoryCustomizer<JettyServletWebServerFactory> jettyBufferCustomizer(
+                @Value("${roomescape.web-server.buffer-bytes:16384}") int bufferBytes) {
+            return factory -> factory.addServerCustomizers(server -> {
+                for (Connector connector : server.getConnectors()) {
+                    HttpConnectionFactory http = connector.getConnectionFactory(HttpConnectionFactory.class);
+                    if (http == null) {
+                        continue;
+                    }
+                    HttpConfiguration configuration = http.getHttpConfiguration();
+                    configuration.setOutputBufferSize(bufferBytes);
+                    configuration.setSendServerVersion(false);
+                }
+            });
+        }
+    }
+}
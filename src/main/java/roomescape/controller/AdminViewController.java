@@ -1,20 +1,57 @@
 package roomescape.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.thymeleaf.context.LazyContextVariable;
+import roomescape.dto.reservation.ReservationFirstPageResponse;
+import roomescape.service.ReservationService;
 
 @Controller
 @RequestMapping("/admin")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class AdminViewController {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminViewController.class);
+
+    private final ReservationService reservationService;
+    private final boolean serverRendering;
+    private final int firstPageSize;
+
+    public AdminViewController(ReservationService reservationService,
+                               @Value("${roomescape.admin.server-rendering.enabled:true}") boolean serverRendering,
+                               @Value("${roomescape.admin.server-rendering.first-page-size:100}") int firstPageSize) {
+        this.reservationService = reservationService;
+        this.serverRendering = serverRendering;
+        this.firstPageSize = firstPageSize;
+    }
+
     @GetMapping
     public String mainPage() {
         return "admin/index";
     }
 
     @GetMapping("/reservation")
-    public String reservationPage() {
+    public String reservationPage(Model model, HttpServletResponse response) {
+        model.addAttribute("serverRendered", serverRendering);
+        if (serverRendering) {
+            model.addAttribute("firstPage", new LazyContextVariable<ReservationFirstPageResponse>() {
+                @Override
+                protected ReservationFirstPageResponse loadValue() {
+                    flushRenderedShell(response);
+                    return loadFirstPage();
+                }
+            });
+        }
         return "admin/reservation";
     }
 
@@ -22,4 +59,21 @@ public class AdminViewController {
     public String timePage() {
         return "admin/time";
     }
+
+    private ReservationFirstPageResponse loadFirstPage() {
+        try {
+            return ReservationFirstPageResponse.from(reservationService.findSlice(0, firstPageSize));
+        } catch (RuntimeException e) {
+            log.warn("응답을 보내기 시작한 뒤 첫 페이지 예약을 불러오지 못해 오류 행을 대신 그립니다.", e);
+            return ReservationFirstPageResponse.failed();
+        }
+    }
+
+    private void flushRenderedShell(HttpServletResponse response) {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
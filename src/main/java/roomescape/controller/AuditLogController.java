@@ -0,0 +1,31 @@
+package roomescape.controller;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.audit.AuditRecordResponse;
+import roomescape.service.AuditLogService;
+
+@RestController
+@RequestMapping("/admin/audit-logs")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    public AuditLogController(AuditLogService auditLogService) {
+        this.auditLogService = auditLogService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AuditRecordResponse>> readAll(@RequestParam String from,
+                                                             @RequestParam String to,
+                                                             @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(auditLogService.find(from, to, limit));
+    }
+}
@@ -0,0 +1,30 @@
+package roomescape.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.changelog.ChangesResponse;
+import roomescape.service.ChangeLogService;
+
+@RestController
+@RequestMapping("/reservations/changes")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ChangeLogController {
+
+    private final ChangeLogService changeLogService;
+
+    public ChangeLogController(ChangeLogService changeLogService) {
+        this.changeLogService = changeLogService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ChangesResponse> readChanges(@RequestParam(defaultValue = "0") int shard,
+                                                       @RequestParam(defaultValue = "0") long since,
+                                                       @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(changeLogService.findChanges(shard, since, limit));
+    }
+}
@@ -0,0 +1,31 @@
+package roomescape.controller;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dao.pool.ConnectionPoolMonitor;
+import roomescape.dto.pool.ConnectionPoolResponse;
+
+@RestController
+@RequestMapping("/admin/connection-pools")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ConnectionPoolController {
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+
+    public ConnectionPoolController(ConnectionPoolMonitor connectionPoolMonitor) {
+        this.connectionPoolMonitor = connectionPoolMonitor;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ConnectionPoolResponse>> readAll() {
+        List<ConnectionPoolResponse> responses = connectionPoolMonitor.findAll().stream()
+                .map(ConnectionPoolResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+}
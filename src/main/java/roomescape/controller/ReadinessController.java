@@ -0,0 +1,29 @@
+package roomescape.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ReadinessController {
+
+    private final ApplicationAvailability applicationAvailability;
+
+    public ReadinessController(ApplicationAvailability applicationAvailability) {
+        this.applicationAvailability = applicationAvailability;
+    }
+
+    @GetMapping("/health/readiness")
+    public ResponseEntity<Void> readiness() {
+        if (applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.ok().build();
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+}
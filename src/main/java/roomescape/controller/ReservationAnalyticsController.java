@@ -0,0 +1,55 @@
+package roomescape.controller;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.analytics.ColumnStoreStatsResponse;
+import roomescape.dto.analytics.DailyCountResponse;
+import roomescape.dto.analytics.ReservationCountResponse;
+import roomescape.dto.analytics.SlotCountResponse;
+import roomescape.service.ReservationAnalyticsService;
+
+@RestController
+@RequestMapping("/admin/analytics/reservations")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ReservationAnalyticsController {
+
+    private final ReservationAnalyticsService reservationAnalyticsService;
+
+    public ReservationAnalyticsController(ReservationAnalyticsService reservationAnalyticsService) {
+        this.reservationAnalyticsService = reservationAnalyticsService;
+    }
+
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailyCountResponse>> readDailyCounts(@RequestParam String from,
+                                                                    @RequestParam String to,
+                                                                    @RequestParam(required = false) String name) {
+        return ResponseEntity.ok(reservationAnalyticsService.countByDay(from, to, name));
+    }
+
+    @GetMapping("/slots")
+    public ResponseEntity<List<SlotCountResponse>> readSlotCounts(@RequestParam String from,
+                                                                  @RequestParam String to) {
+        return ResponseEntity.ok(reservationAnalyticsService.countBySlot(from, to));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<ReservationCountResponse> readCount(@RequestParam String from,
+                                                              @RequestParam String to,
+                                                              @RequestParam(required = false) String startFrom,
+                                                              @RequestParam(required = false) String startTo,
+                                                              @RequestParam(required = false) Long timeId,
+                                                              @RequestParam(required = false) String name) {
+        return ResponseEntity.ok(reservationAnalyticsService.count(from, to, startFrom, startTo, timeId, name));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ColumnStoreStatsResponse> readStats() {
+        return ResponseEntity.ok(reservationAnalyticsService.getStats());
+    }
+}
@@ -1,7 +1,13 @@
 package roomescape.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,19 +15,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.reservation.ReservationCalendarResponse;
 import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationPageResponse;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSliceResponse;
+import roomescape.service.ReservationImportService;
 import roomescape.service.ReservationService;
 
 @RestController
 @RequestMapping("/reservations")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationImportService reservationImportService;
 
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService,
+                                 ReservationImportService reservationImportService) {
         this.reservationService = reservationService;
+        this.reservationImportService = reservationImportService;
     }
 
     @GetMapping
@@ -29,12 +44,38 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.findAll());
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<ReservationSliceResponse> readSlice(@RequestParam(defaultValue = "0") long afterId,
+                                                              @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(reservationService.findSlice(afterId, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ReservationPageResponse> search(@RequestParam String name,
+                                                          @RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.searchByName(name, page, size));
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<ReservationCalendarResponse> readCalendar(@RequestParam String from,
+                                                                    @RequestParam String to) {
+        return ResponseEntity.ok(reservationService.getCalendar(from, to));
+    }
+
     @PostMapping
     public ResponseEntity<ReservationResponse> create(@RequestBody ReservationCreateRequest request) {
         return ResponseEntity.created(URI.create("/reservations"))
                 .body(reservationService.add(request));
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public void importCsv(InputStream csv, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        reservationImportService.importCsv(csv, response.getOutputStream());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         reservationService.delete(id);
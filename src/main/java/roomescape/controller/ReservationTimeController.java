@@ -2,6 +2,8 @@ package roomescape.controller;
 
 import java.net.URI;
 import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,12 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.reservationtime.ReservationTimeBulkCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
 import roomescape.service.ReservationTimeService;
 
 @RestController
 @RequestMapping("/times")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class ReservationTimeController {
 
     private final ReservationTimeService reservationTimeService;
@@ -36,6 +40,12 @@ public class ReservationTimeController {
                 .body(result);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<ReservationTimeResponse>> createAll(@RequestBody ReservationTimeBulkCreateRequest request) {
+        return ResponseEntity.created(URI.create("/times"))
+                .body(reservationTimeService.addAll(request));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         reservationTimeService.delete(id);
@@ -0,0 +1,38 @@
+package roomescape.controller;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dao.slowquery.SlowQueryLog;
+import roomescape.dto.slowquery.SlowQueryResponse;
+
+@RestController
+@RequestMapping("/admin/slow-queries")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class SlowQueryController {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryController(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SlowQueryResponse>> readAll() {
+        List<SlowQueryResponse> responses = slowQueryLog.findRecent().stream()
+                .map(SlowQueryResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,27 @@
+package roomescape.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.snapshot.SnapshotResponse;
+import roomescape.service.SnapshotService;
+
+@RestController
+@RequestMapping("/admin/snapshots")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class SnapshotController {
+
+    private final SnapshotService snapshotService;
+
+    public SnapshotController(SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SnapshotResponse> create() {
+        return ResponseEntity.ok(snapshotService.takeSnapshot());
+    }
+}
@@ -0,0 +1,49 @@
+package roomescape.controller.reactive;
+
+import java.net.URI;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.service.reactive.ReactiveReservationService;
+
+@RestController
+@RequestMapping("/reservations")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveReservationController {
+
+    private final ReactiveReservationService reservationService;
+
+    public ReactiveReservationController(ReactiveReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ReservationResponse> readAll() {
+        return reservationService.findAll();
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ReservationResponse>> create(@RequestBody ReservationCreateRequest request) {
+        return reservationService.add(request)
+                .map(result -> ResponseEntity.created(URI.create("/reservations"))
+                        .body(result));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return reservationService.delete(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
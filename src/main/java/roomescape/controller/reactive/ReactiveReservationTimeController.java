@@ -0,0 +1,49 @@
+package roomescape.controller.reactive;
+
+import java.net.URI;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.service.reactive.ReactiveReservationTimeService;
+
+@RestController
+@RequestMapping("/times")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveReservationTimeController {
+
+    private final ReactiveReservationTimeService reservationTimeService;
+
+    public ReactiveReservationTimeController(ReactiveReservationTimeService reservationTimeService) {
+        this.reservationTimeService = reservationTimeService;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ReservationTimeResponse> readAll() {
+        return reservationTimeService.findAll();
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ReservationTimeResponse>> create(@RequestBody ReservationTimeCreateRequest request) {
+        return reservationTimeService.add(request)
+                .map(result -> ResponseEntity.created(URI.create("/times/" + result.getId()))
+                        .body(result));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return reservationTimeService.delete(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,148 @@
+package roomescape.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.domain.changelog.ChangeOperation;
+
+@Component
+public class ChangeLogDao {
+
+    private static final String INSERT_SQL = """
+            INSERT
+            INTO change_log
+                (seq, entity_type, entity_id, operation, name, date, time_id, start_at)
+            VALUES
+                (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String RESERVE_SEQ_SQL = """
+            UPDATE change_log_head
+            SET last_seq = last_seq + ?
+            WHERE id = 1
+            """;
+    private static final String LAST_SEQ_SQL = """
+            SELECT last_seq
+            FROM change_log_head
+            WHERE id = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeLogDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void append(ChangeLog changeLog) {
+        long seq = reserveSeqs(1);
+        jdbcTemplate.update(INSERT_SQL, toParameters(seq, changeLog));
+    }
+
+    public void appendAll(List<ChangeLog> changeLogs) {
+        if (changeLogs.isEmpty()) {
+            return;
+        }
+        long firstSeq = reserveSeqs(changeLogs.size()) - changeLogs.size() + 1;
+        List<Object[]> parameters = new ArrayList<>(changeLogs.size());
+        for (int i = 0; i < changeLogs.size(); i++) {
+            parameters.add(toParameters(firstSeq + i, changeLogs.get(i)));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, parameters);
+    }
+
+    private long reserveSeqs(int count) {
+        jdbcTemplate.update(RESERVE_SEQ_SQL, count);
+        return jdbcTemplate.queryForObject(LAST_SEQ_SQL, Long.class);
+    }
+
+    public List<ChangeLog> findAfter(long seq, int limit) {
+        String sql = """
+                SELECT
+                    seq, entity_type, entity_id, operation, name, date, time_id, start_at
+                FROM change_log
+                WHERE seq > ?
+                ORDER BY seq
+                LIMIT ?
+                """;
+        return DataSourceRoute.primary(() -> jdbcTemplate.query(
+                sql,
+                (resultSet, rowNum) -> getChangeLog(resultSet),
+                seq,
+                limit
+        ));
+    }
+
+    public long findCompactedThrough() {
+        String sql = """
+                SELECT compacted_through
+                FROM change_log_watermark
+                WHERE id = 1
+                """;
+        return DataSourceRoute.primary(() -> jdbcTemplate.queryForObject(sql, Long.class));
+    }
+
+    public long findLastSeq() {
+        return DataSourceRoute.primary(() -> jdbcTemplate.queryForObject(LAST_SEQ_SQL, Long.class));
+    }
+
+    public Optional<Long> findLastSeqBefore(Instant createdAt) {
+        String sql = """
+                SELECT MAX(seq)
+                FROM change_log
+                WHERE created_at < ?
+                """;
+        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, Long.class, Timestamp.from(createdAt)));
+    }
+
+    public int deleteThrough(long seq) {
+        String sql = """
+                DELETE
+                FROM change_log
+                WHERE seq <= ?
+                """;
+        return jdbcTemplate.update(sql, seq);
+    }
+
+    public void updateCompactedThrough(long seq) {
+        String sql = """
+                UPDATE change_log_watermark
+                SET compacted_through = ?
+                WHERE id = 1
+                """;
+        jdbcTemplate.update(sql, seq);
+    }
+
+    private Object[] toParameters(long seq, ChangeLog changeLog) {
+        return new Object[]{
+                seq,
+                changeLog.getEntityType().name(),
+                changeLog.getEntityId(),
+                changeLog.getOperation().name(),
+                changeLog.getName(),
+                changeLog.getDate(),
+                changeLog.getTimeId(),
+                changeLog.getStartAt()
+        };
+    }
+
+    private ChangeLog getChangeLog(ResultSet resultSet) throws SQLException {
+        return new ChangeLog(
+                resultSet.getLong("seq"),
+                ChangeEntityType.valueOf(resultSet.getString("entity_type")),
+                resultSet.getLong("entity_id"),
+                ChangeOperation.valueOf(resultSet.getString("operation")),
+                resultSet.getString("name"),
+                resultSet.getString("date"),
+                resultSet.getObject("time_id", Long.class),
+                resultSet.getString("start_at")
+        );
+    }
+}
@@ -1,19 +1,27 @@
 package roomescape.dao;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
+import java.util.Optional;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Repository;
+import roomescape.dao.id.IdAllocator;
+import roomescape.dao.id.IdSequence;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.analytics.ReservationColumns;
 import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservation.ReservationDate;
 import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservation.SlotOccupancy;
 import roomescape.domain.reservationtime.ReservationStartAt;
 import roomescape.domain.reservationtime.ReservationTime;
 
@@ -21,10 +29,26 @@ import roomescape.domain.reservationtime.ReservationTime;
 @Repository
 public class ReservationDao {
 
+    private static final String INSERT_SQL = """
+            INSERT
+            INTO reservation
+                (id, name, date, time_id, room_id)
+            VALUES
+                (?, ?, ?, ?, ?)
+            """;
+
+    private static final Comparator<Reservation> NAME_ORDER = Comparator
+            .comparing((Reservation reservation) -> reservation.getName().getValue().toLowerCase(Locale.ROOT))
+            .thenComparing(Reservation::getId);
+
     private final JdbcTemplate jdbcTemplate;
+    private final ShardSelector shardSelector;
+    private final IdAllocator idAllocator;
 
-    public ReservationDao(JdbcTemplate jdbcTemplate) {
+    public ReservationDao(JdbcTemplate jdbcTemplate, ShardSelector shardSelector, IdAllocator idAllocator) {
         this.jdbcTemplate = jdbcTemplate;
+        this.shardSelector = shardSelector;
+        this.idAllocator = idAllocator;
     }
 
     public List<Reservation> findAll() {
@@ -34,51 +58,194 @@ public class ReservationDao {
                     r.name,
                     r.`date`,
                     t.id AS time_id,
+                    t.room_id,
                     t.start_at AS time_value
                 FROM reservation r
                     INNER JOIN reservation_time t
-                    ON r.time_id = t.id;
+                    ON r.time_id = t.id
+                ORDER BY r.id
                 """;
-        return jdbcTemplate.query(
-                sql,
-                (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet))
-        );
+        List<Reservation> reservations = shardSelector.onEveryShard(() -> DataSourceRoute.read(
+                () -> jdbcTemplate.query(
+                        sql,
+                        (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet))
+                )
+        ));
+        if (shardSelector.count() > 1) {
+            reservations.sort(Comparator.comparing(Reservation::getId));
+        }
+        return reservations;
     }
 
-    public Reservation findById(long id) {
+    public Optional<Reservation> findById(long id) {
         String sql = """
                 SELECT
                     r.id AS reservation_id,
                     r.name,
                     r.`date`,
                     t.id AS time_id,
+                    t.room_id,
                     t.start_at AS time_value
                 FROM reservation r
                     INNER JOIN reservation_time t
                     ON r.time_id = t.id
                 WHERE r.id = ?
                 """;
-        return jdbcTemplate.queryForObject(
+        return shardSelector.onShardOf(id, () -> DataSourceRoute.read(() -> jdbcTemplate.query(
                 sql,
                 (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet)),
                 id
-        );
+        ).stream().findFirst()));
     }
 
-    public long add(Reservation reservation) {
+    public List<Reservation> findAfterId(long afterId, int limit) {
+        String sql = """
+                SELECT
+                    r.id AS reservation_id,
+                    r.name,
+                    r.`date`,
+                    t.id AS time_id,
+                    t.room_id,
+                    t.start_at AS time_value
+                FROM reservation r
+                    INNER JOIN reservation_time t
+                    ON r.time_id = t.id
+                WHERE r.id > ?
+                ORDER BY r.id
+                LIMIT ?
+                """;
+        List<Reservation> reservations = shardSelector.onEveryShard(() -> DataSourceRoute.read(
+                () -> jdbcTemplate.query(
+                        sql,
+                        (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet)),
+                        afterId,
+                        limit
+                )
+        ));
+        if (shardSelector.count() == 1) {
+            return reservations;
+        }
+        return reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    public List<Reservation> findByNamePrefix(String namePrefix, int limit, long offset) {
         String sql = """
-                INSERT
-                INTO reservation
-                    (name, date, time_id)
-                VALUES
-                    (?, ?, ?)
+                SELECT
+                    r.id AS reservation_id,
+                    r.name,
+                    r.`date`,
+                    t.id AS time_id,
+                    t.room_id,
+                    t.start_at AS time_value
+                FROM reservation r
+                    INNER JOIN reservation_time t
+                    ON r.time_id = t.id
+                WHERE r.name_key LIKE ? ESCAPE '\\'
+                ORDER BY r.name_key, r.id
+                LIMIT ? OFFSET ?
                 """;
-        KeyHolder keyHolder = new GeneratedKeyHolder();
-        jdbcTemplate.update(
-                connection -> getPreparedStatement(reservation, connection, sql),
-                keyHolder
-        );
-        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+        String pattern = escapeLike(namePrefix.toLowerCase(Locale.ROOT)) + "%";
+        if (shardSelector.count() == 1) {
+            return DataSourceRoute.read(() -> jdbcTemplate.query(
+                    sql,
+                    (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet)),
+                    pattern,
+                    limit,
+                    offset
+            ));
+        }
+        List<Reservation> candidates = shardSelector.onEveryShard(() -> DataSourceRoute.read(
+                () -> jdbcTemplate.query(
+                        sql,
+                        (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet)),
+                        pattern,
+                        offset + limit,
+                        0
+                )
+        ));
+        return candidates.stream()
+                .sorted(NAME_ORDER)
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    public List<SlotOccupancy> findSlotOccupancies(ReservationDate from, ReservationDate to) {
+        String sql = """
+                SELECT
+                    t.id AS time_id,
+                    t.room_id,
+                    t.start_at AS time_value,
+                    r.`date`,
+                    COUNT(r.id) AS reserved
+                FROM reservation_time t
+                    LEFT JOIN reservation r
+                    ON r.time_id = t.id
+                    AND r.`date` BETWEEN ? AND ?
+                GROUP BY t.id, t.room_id, t.start_at, r.`date`
+                ORDER BY t.id
+                """;
+        List<SlotOccupancy> occupancies = shardSelector.onEveryShard(() -> DataSourceRoute.read(
+                () -> jdbcTemplate.query(
+                        sql,
+                        (resultSet, rowNum) -> getSlotOccupancy(resultSet),
+                        from.toStringDate(),
+                        to.toStringDate()
+                )
+        ));
+        if (shardSelector.count() > 1) {
+            occupancies.sort(Comparator.comparing(occupancy -> occupancy.getReservationTime().getId()));
+        }
+        return occupancies;
+    }
+
+    public void loadColumns(int shard, ReservationColumns columns) {
+        String sql = """
+                SELECT
+                    r.id,
+                    r.name,
+                    r.`date`,
+                    r.time_id,
+                    t.start_at
+                FROM reservation r
+                    INNER JOIN reservation_time t
+                    ON r.time_id = t.id
+                """;
+        ShardRoute.on(shard, () -> DataSourceRoute.read(() -> {
+            jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> columns.append(
+                    resultSet.getLong("id"),
+                    resultSet.getString("name"),
+                    ReservationDate.from(resultSet.getString("date")).toEpochDay(),
+                    ReservationStartAt.from(resultSet.getString("start_at")).getMinuteOfDay(),
+                    resultSet.getLong("time_id")
+            ));
+            return null;
+        }));
+    }
+
+    public long add(Reservation reservation) {
+        return shardSelector.onRoom(reservation.getRoomId(), () -> {
+            long id = idAllocator.next(IdSequence.RESERVATION);
+            jdbcTemplate.update(
+                    INSERT_SQL,
+                    id,
+                    reservation.getName().getValue(),
+                    reservation.getDate().toStringDate(),
+                    reservation.getReservationTime().getId(),
+                    reservation.getRoomId()
+            );
+            return id;
+        });
+    }
+
+    public List<Long> addAll(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        return shardSelector.onRoom(reservations.get(0).getRoomId(), () -> insertBatch(reservations));
     }
 
     public Boolean exist(long id) {
@@ -90,16 +257,32 @@ public class ReservationDao {
                     ELSE FALSE
                 END
                 """;
-        return jdbcTemplate.queryForObject(sql, Boolean.class, id);
+        return shardSelector.onShardOf(id, () -> DataSourceRoute.read(
+                () -> jdbcTemplate.queryForObject(sql, Boolean.class, id)
+        ));
     }
 
-    public void delete(long id) {
+    public int delete(long id) {
         String sql = """
                 DELETE
                 FROM reservation
                 WHERE id = ?
                 """;
-        jdbcTemplate.update(sql, id);
+        return shardSelector.onShardOf(id, () -> jdbcTemplate.update(sql, id));
+    }
+
+    private List<Long> insertBatch(List<Reservation> reservations) {
+        List<Long> ids = idAllocator.next(IdSequence.RESERVATION, reservations.size());
+        jdbcTemplate.execute((ConnectionCallback<int[]>) connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL)) {
+                for (int i = 0; i < reservations.size(); i++) {
+                    setParameters(preparedStatement, ids.get(i), reservations.get(i));
+                    preparedStatement.addBatch();
+                }
+                return preparedStatement.executeBatch();
+            }
+        });
+        return ids;
     }
 
     private Reservation getReservation(ResultSet resultSet, ReservationTime reservationTime) throws SQLException {
@@ -114,17 +297,33 @@ public class ReservationDao {
     private ReservationTime getReservationTime(ResultSet resultSet) throws SQLException {
         return new ReservationTime(
                 resultSet.getLong("time_id"),
+                resultSet.getLong("room_id"),
                 ReservationStartAt.from(resultSet.getString("time_value"))
         );
     }
 
-    private PreparedStatement getPreparedStatement(Reservation reservation,
-                                                   Connection connection,
-                                                   String sql) throws SQLException {
-        PreparedStatement preparedStatement = connection.prepareStatement(sql, new String[]{"id"});
-        preparedStatement.setString(1, reservation.getName().getValue());
-        preparedStatement.setString(2, reservation.getDate().toStringDate());
-        preparedStatement.setLong(3, reservation.getReservationTime().getId());
-        return preparedStatement;
+    private SlotOccupancy getSlotOccupancy(ResultSet resultSet) throws SQLException {
+        String date = resultSet.getString("date");
+        return new SlotOccupancy(
+                getReservationTime(resultSet),
+                date == null ? null : ReservationDate.from(date),
+                resultSet.getInt("reserved")
+        );
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private void setParameters(PreparedStatement preparedStatement,
+                               long id,
+                               Reservation reservation) throws SQLException {
+        preparedStatement.setLong(1, id);
+        preparedStatement.setString(2, reservation.getName().getValue());
+        preparedStatement.setString(3, reservation.getDate().toStringDate());
+        preparedStatement.setLong(4, reservation.getReservationTime().getId());
+        preparedStatement.setLong(5, reservation.getRoomId());
     }
 }
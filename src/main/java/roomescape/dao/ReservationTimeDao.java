@@ -1,67 +1,106 @@
 package roomescape.dao;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
+import roomescape.dao.id.IdAllocator;
+import roomescape.dao.id.IdSequence;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.dao.routing.ShardSelector;
 import roomescape.domain.reservationtime.ReservationStartAt;
 import roomescape.domain.reservationtime.ReservationTime;
 
 @Component
 public class ReservationTimeDao {
 
+    private static final String INSERT_SQL = """
+            INSERT
+            INTO reservation_time
+                (id, room_id, start_at)
+            VALUES
+                (?, ?, ?)
+            """;
+
     private final JdbcTemplate jdbcTemplate;
+    private final ShardSelector shardSelector;
+    private final IdAllocator idAllocator;
 
-    public ReservationTimeDao(JdbcTemplate jdbcTemplate) {
+    public ReservationTimeDao(JdbcTemplate jdbcTemplate, ShardSelector shardSelector, IdAllocator idAllocator) {
         this.jdbcTemplate = jdbcTemplate;
+        this.shardSelector = shardSelector;
+        this.idAllocator = idAllocator;
     }
 
     public List<ReservationTime> findAll() {
         String sql = """
                 SELECT
-                id, start_at
+                id, room_id, start_at
                 FROM reservation_time
+                ORDER BY id
                 """;
-        return jdbcTemplate.query(
+        List<ReservationTime> reservationTimes = shardSelector.onEveryShard(() -> DataSourceRoute.read(
+                () -> jdbcTemplate.query(sql, (resultSet, rowNum) -> getReservationTime(resultSet))
+        ));
+        if (shardSelector.count() > 1) {
+            reservationTimes.sort(Comparator.comparing(ReservationTime::getId));
+        }
+        return reservationTimes;
+    }
+
+    public List<ReservationTime> findByRoomId(long roomId) {
+        String sql = """
+                SELECT
+                id, room_id, start_at
+                FROM reservation_time
+                WHERE room_id = ?
+                ORDER BY id
+                """;
+        return shardSelector.onRoom(roomId, () -> DataSourceRoute.read(() -> jdbcTemplate.query(
                 sql,
-                (resultSet, rowNum) -> getReservationTime(resultSet)
-        );
+                (resultSet, rowNum) -> getReservationTime(resultSet),
+                roomId
+        )));
     }
 
-    public ReservationTime findById(long id) {
+    public Optional<ReservationTime> findById(long id) {
         String sql = """
                 SELECT
-                id, start_at
+                id, room_id, start_at
                 FROM reservation_time
                 WHERE id = ?
                 """;
-        return jdbcTemplate.queryForObject(
+        return shardSelector.onShardOf(id, () -> DataSourceRoute.read(() -> jdbcTemplate.query(
                 sql,
                 (resultSet, rowNum) -> getReservationTime(resultSet),
                 id
-        );
+        ).stream().findFirst()));
     }
 
     public long add(ReservationTime reservationTime) {
-        String sql = """
-                INSERT
-                INTO reservation_time
-                    (start_at)
-                VALUES
-                    (?)
-                """;
-        KeyHolder keyHolder = new GeneratedKeyHolder();
-        jdbcTemplate.update(
-                connection -> getPreparedStatement(reservationTime, connection, sql),
-                keyHolder
-        );
-        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+        return shardSelector.onRoom(reservationTime.getRoomId(), () -> {
+            long id = idAllocator.next(IdSequence.RESERVATION_TIME);
+            jdbcTemplate.update(
+                    INSERT_SQL,
+                    id,
+                    reservationTime.getRoomId(),
+                    reservationTime.getStartAt().toStringTime()
+            );
+            return id;
+        });
+    }
+
+    public List<Long> addAll(List<ReservationTime> reservationTimes) {
+        if (reservationTimes.isEmpty()) {
+            return List.of();
+        }
+        long roomId = reservationTimes.get(0).getRoomId();
+        return shardSelector.onRoom(roomId, () -> insertBatch(reservationTimes));
     }
 
     public Boolean exist(long id) {
@@ -73,30 +112,47 @@ public class ReservationTimeDao {
                     ELSE FALSE
                 END
                 """;
-        return jdbcTemplate.queryForObject(sql, Boolean.class, id);
+        return shardSelector.onShardOf(id, () -> DataSourceRoute.read(
+                () -> jdbcTemplate.queryForObject(sql, Boolean.class, id)
+        ));
     }
 
-    public void delete(long id) {
+    public int delete(long id) {
         String sql = """
                 DELETE
                 FROM reservation_time
                 WHERE id = ?
                 """;
-        jdbcTemplate.update(sql, id);
+        return shardSelector.onShardOf(id, () -> jdbcTemplate.update(sql, id));
+    }
+
+    private List<Long> insertBatch(List<ReservationTime> reservationTimes) {
+        List<Long> ids = idAllocator.next(IdSequence.RESERVATION_TIME, reservationTimes.size());
+        jdbcTemplate.execute((ConnectionCallback<int[]>) connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL)) {
+                for (int i = 0; i < reservationTimes.size(); i++) {
+                    setParameters(preparedStatement, ids.get(i), reservationTimes.get(i));
+                    preparedStatement.addBatch();
+                }
+                return preparedStatement.executeBatch();
+            }
+        });
+        return ids;
     }
 
     private ReservationTime getReservationTime(ResultSet resultSet) throws SQLException {
         return new ReservationTime(
                 resultSet.getLong("id"),
+                resultSet.getLong("room_id"),
                 ReservationStartAt.from(resultSet.getString("start_at"))
         );
     }
 
-    private PreparedStatement getPreparedStatement(ReservationTime reservationTime,
-                                                   Connection connection,
-                                                   String sql) throws SQLException {
-        PreparedStatement preparedStatement = connection.prepareStatement(sql, new String[]{"id"});
-        preparedStatement.setString(1, reservationTime.getStartAt().toStringTime());
-        return preparedStatement;
+    private void setParameters(PreparedStatement preparedStatement,
+                               long id,
+                               ReservationTime reservationTime) throws SQLException {
+        preparedStatement.setLong(1, id);
+        preparedStatement.setLong(2, reservationTime.getRoomId());
+        preparedStatement.setString(3, reservationTime.getStartAt().toStringTime());
     }
 }
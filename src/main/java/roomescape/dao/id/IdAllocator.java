@@ -0,0 +1,129 @@
+package roomescape.dao.id;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.dao.routing.ShardSelector;
+
+@Component
+@DependsOnDatabaseInitialization
+public class IdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int shardCount;
+    private final int blockSize;
+    private final Map<IdSequence, Slot[]> slots = new EnumMap<>(IdSequence.class);
+
+    public IdAllocator(JdbcTemplate jdbcTemplate,
+                       ShardSelector shardSelector,
+                       @Value("${roomescape.id-allocation.block-size:1000}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("아이디 블록 크기는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardCount = shardSelector.count();
+        this.blockSize = blockSize;
+        for (IdSequence sequence : IdSequence.values()) {
+            Slot[] shardSlots = new Slot[shardCount];
+            for (int shard = 0; shard < shardCount; shard++) {
+                shardSlots[shard] = new Slot();
+            }
+            slots.put(sequence, shardSlots);
+        }
+    }
+
+    @PostConstruct
+    public void alignAll() {
+        for (int shard = 0; shard < shardCount; shard++) {
+            align(shard);
+        }
+    }
+
+    public long next(IdSequence sequence) {
+        int shard = ShardRoute.current();
+        Slot slot = slots.get(sequence)[shard];
+        while (true) {
+            Block block = slot.block;
+            if (block != null) {
+                long ordinal = block.cursor.getAndIncrement();
+                if (ordinal < block.limit) {
+                    return ordinal * shardCount + shard + 1;
+                }
+            }
+            refill(sequence, shard, slot, block);
+        }
+    }
+
+    public List<Long> next(IdSequence sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(next(sequence));
+        }
+        return ids;
+    }
+
+    public void align(int shard) {
+        for (IdSequence sequence : IdSequence.values()) {
+            Slot slot = slots.get(sequence)[shard];
+            synchronized (slot) {
+                slot.block = null;
+                ShardRoute.on(shard, () -> DataSourceRoute.primary(() -> restartSequence(sequence, shard)));
+            }
+        }
+    }
+
+    private void refill(IdSequence sequence, int shard, Slot slot, Block exhausted) {
+        synchronized (slot) {
+            if (slot.block != exhausted) {
+                return;
+            }
+            long hi = ShardRoute.on(shard, () -> DataSourceRoute.primary(() -> nextHi(sequence)));
+            long first = (hi - 1) * blockSize;
+            slot.block = new Block(first, first + blockSize);
+        }
+    }
+
+    private long nextHi(IdSequence sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence.getSequenceName(), Long.class);
+    }
+
+    private long restartSequence(IdSequence sequence, int shard) {
+        long restartWith = Math.max(nextHi(sequence), alignedHi(sequence, shard));
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence.getSequenceName() + " RESTART WITH " + restartWith);
+        return restartWith;
+    }
+
+    private long alignedHi(IdSequence sequence, int shard) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + sequence.getTable(),
+                Long.class
+        );
+        long nextOrdinal = Math.floorDiv(maxId - 1 - shard, (long) shardCount) + 1;
+        return Math.floorDiv(nextOrdinal + blockSize - 1, (long) blockSize) + 1;
+    }
+
+    private static class Slot {
+
+        private volatile Block block;
+    }
+
+    private static class Block {
+
+        private final AtomicLong cursor;
+        private final long limit;
+
+        private Block(long first, long limit) {
+            this.cursor = new AtomicLong(first);
+            this.limit = limit;
+        }
+    }
+}
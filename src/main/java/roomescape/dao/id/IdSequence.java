@@ -0,0 +1,23 @@
+package roomescape.dao.id;
+
+public enum IdSequence {
+
+    RESERVATION_TIME("reservation_time", "reservation_time_id_seq"),
+    RESERVATION("reservation", "reservation_id_seq");
+
+    private final String table;
+    private final String sequenceName;
+
+    IdSequence(String table, String sequenceName) {
+        this.table = table;
+        this.sequenceName = sequenceName;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+}
@@ -0,0 +1,96 @@
+package roomescape.dao.pool;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.connection-pool.adaptive.enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+    private static final double HEADROOM = 1.5;
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final int minSize;
+    private final int maxSize;
+    private final long intervalMicros;
+    private final long acquireWaitThresholdMicros;
+    private final Map<String, PoolWindow> previousWindows = new HashMap<>();
+
+    public AdaptivePoolSizer(ConnectionPoolMonitor connectionPoolMonitor,
+                             @Value("${roomescape.connection-pool.adaptive.min-size:4}") int minSize,
+                             @Value("${roomescape.connection-pool.adaptive.max-size:32}") int maxSize,
+                             @Value("${roomescape.connection-pool.adaptive.interval-millis:10000}") long intervalMillis,
+                             @Value("${roomescape.connection-pool.adaptive.acquire-wait-threshold-millis:5}")
+                             long acquireWaitThresholdMillis) {
+        if (minSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("커넥션 풀 최소 크기는 1 이상, 최대 크기 이하여야 합니다.");
+        }
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.intervalMicros = TimeUnit.MILLISECONDS.toMicros(intervalMillis);
+        this.acquireWaitThresholdMicros = TimeUnit.MILLISECONDS.toMicros(acquireWaitThresholdMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.connection-pool.adaptive.interval-millis:10000}")
+    public synchronized void resize() {
+        for (MonitoredPool pool : connectionPoolMonitor.findAll()) {
+            PoolWindow current = PoolWindow.of(pool.getMetrics());
+            PoolWindow previous = previousWindows.getOrDefault(pool.getName(), PoolWindow.EMPTY);
+            previousWindows.put(pool.getName(), current);
+            int size = pool.getMaximumPoolSize();
+            int target = targetSize(size, pool.getPendingThreads(), current.since(previous));
+            if (target != size) {
+                log.info("커넥션 풀 {} 크기 조정: {} -> {}", pool.getName(), size, target);
+                pool.resize(target);
+            }
+        }
+    }
+
+    public int targetSize(int size, int pendingThreads, PoolWindow window) {
+        int neededForLoad = (int) Math.ceil(window.usageMicros() * HEADROOM / intervalMicros);
+        int target;
+        if (pendingThreads > 0 || window.meanAcquireMicros() > acquireWaitThresholdMicros) {
+            target = Math.max(size + Math.max(1, size / 4), neededForLoad);
+        } else {
+            target = Math.max(size - 1, neededForLoad);
+        }
+        return Math.max(minSize, Math.min(maxSize, target));
+    }
+
+    public record PoolWindow(long acquireCount, long acquireMicros, long usageMicros) {
+
+        private static final PoolWindow EMPTY = new PoolWindow(0, 0, 0);
+
+        public static PoolWindow of(ConnectionPoolMetrics metrics) {
+            return new PoolWindow(
+                    metrics.getAcquireTime().getCount(),
+                    metrics.getAcquireTime().getSumMicros(),
+                    metrics.getUsageTime().getSumMicros()
+            );
+        }
+
+        public PoolWindow since(PoolWindow previous) {
+            return new PoolWindow(
+                    acquireCount - previous.acquireCount,
+                    acquireMicros - previous.acquireMicros,
+                    usageMicros - previous.usageMicros
+            );
+        }
+
+        public long meanAcquireMicros() {
+            if (acquireCount == 0) {
+                return 0;
+            }
+            return acquireMicros / acquireCount;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package roomescape.dao.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConnectionPoolInstrumenter implements BeanPostProcessor {
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+
+    public ConnectionPoolInstrumenter(@Lazy ConnectionPoolMonitor connectionPoolMonitor) {
+        this.connectionPoolMonitor = connectionPoolMonitor;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            connectionPoolMonitor.register(beanName, dataSource);
+        }
+        if (bean instanceof AbstractRoutingDataSource routingDataSource) {
+            registerTargets(beanName, routingDataSource.getResolvedDataSources());
+        }
+        return bean;
+    }
+
+    private void registerTargets(String beanName, Map<Object, DataSource> targets) {
+        targets.forEach((key, target) -> {
+            if (target instanceof HikariDataSource dataSource) {
+                connectionPoolMonitor.register(beanName + "-" + key.toString().toLowerCase(Locale.ROOT), dataSource);
+            }
+        });
+    }
+}
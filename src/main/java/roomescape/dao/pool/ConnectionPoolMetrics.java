@@ -0,0 +1,52 @@
+package roomescape.dao.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConnectionPoolMetrics implements IMetricsTracker {
+
+    private final LatencyHistogram acquireTime = new LatencyHistogram();
+    private final LatencyHistogram usageTime = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder longHeldConnections = new LongAdder();
+    private final long leakThresholdMillis;
+
+    public ConnectionPoolMetrics(long leakThresholdMillis) {
+        this.leakThresholdMillis = leakThresholdMillis;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireTime.record(TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos));
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageTime.record(TimeUnit.MILLISECONDS.toMicros(elapsedBorrowedMillis));
+        if (leakThresholdMillis > 0 && elapsedBorrowedMillis >= leakThresholdMillis) {
+            longHeldConnections.increment();
+        }
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+    }
+
+    public LatencyHistogram getAcquireTime() {
+        return acquireTime;
+    }
+
+    public LatencyHistogram getUsageTime() {
+        return usageTime;
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getLongHeldConnections() {
+        return longHeldConnections.sum();
+    }
+}
@@ -0,0 +1,44 @@
+package roomescape.dao.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConnectionPoolMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolMonitor.class);
+
+    private final Map<HikariDataSource, MonitoredPool> pools = new IdentityHashMap<>();
+    private final long leakDetectionThresholdMillis;
+
+    public ConnectionPoolMonitor(
+            @Value("${roomescape.connection-pool.leak-detection-threshold-millis:0}") long leakDetectionThresholdMillis) {
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+    }
+
+    public synchronized void register(String name, HikariDataSource dataSource) {
+        if (pools.containsKey(dataSource)) {
+            return;
+        }
+        if (leakDetectionThresholdMillis > 0) {
+            dataSource.setLeakDetectionThreshold(leakDetectionThresholdMillis);
+        }
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(leakDetectionThresholdMillis);
+        if (dataSource.isRunning() || dataSource.getMetricsTrackerFactory() != null) {
+            log.info("이미 시작된 커넥션 풀 {}은 획득 시간을 측정하지 않습니다.", name);
+        } else {
+            dataSource.setMetricsTrackerFactory((poolName, poolStats) -> metrics);
+        }
+        pools.put(dataSource, new MonitoredPool(name, dataSource, metrics));
+    }
+
+    public synchronized List<MonitoredPool> findAll() {
+        return List.copyOf(pools.values());
+    }
+}
@@ -0,0 +1,64 @@
+package roomescape.dao.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private static final long[] UPPER_BOUNDS_MICROS = {
+            100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[UPPER_BOUNDS_MICROS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long micros) {
+        buckets[bucketOf(micros)].increment();
+        count.increment();
+        sumMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumMicros() {
+        return sumMicros.sum();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    public List<Bucket> getBuckets() {
+        List<Bucket> snapshot = new ArrayList<>(buckets.length);
+        for (int i = 0; i < buckets.length; i++) {
+            long upperBound = i < UPPER_BOUNDS_MICROS.length ? UPPER_BOUNDS_MICROS[i] : Long.MAX_VALUE;
+            snapshot.add(new Bucket(upperBound, buckets[i].sum()));
+        }
+        return snapshot;
+    }
+
+    private int bucketOf(long micros) {
+        for (int i = 0; i < UPPER_BOUNDS_MICROS.length; i++) {
+            if (micros <= UPPER_BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return UPPER_BOUNDS_MICROS.length;
+    }
+
+    public record Bucket(long upperBoundMicros, long count) {
+    }
+}
@@ -0,0 +1,64 @@
+package roomescape.dao.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+public class MonitoredPool {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private final ConnectionPoolMetrics metrics;
+
+    public MonitoredPool(String name, HikariDataSource dataSource, ConnectionPoolMetrics metrics) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.metrics = metrics;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getActiveConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    public int getIdleConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getIdleConnections();
+    }
+
+    public int getTotalConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getTotalConnections();
+    }
+
+    public int getPendingThreads() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    }
+
+    public int getMaximumPoolSize() {
+        return dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+    }
+
+    public int getMinimumIdle() {
+        return dataSource.getHikariConfigMXBean().getMinimumIdle();
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return dataSource.getHikariConfigMXBean().getLeakDetectionThreshold();
+    }
+
+    public ConnectionPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void resize(int maximumPoolSize) {
+        dataSource.getHikariConfigMXBean().setMaximumPoolSize(maximumPoolSize);
+        if (getMinimumIdle() > maximumPoolSize) {
+            dataSource.getHikariConfigMXBean().setMinimumIdle(maximumPoolSize);
+        }
+    }
+}
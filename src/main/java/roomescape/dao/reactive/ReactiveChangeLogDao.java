@@ -0,0 +1,70 @@
+package roomescape.dao.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import roomescape.domain.changelog.ChangeLog;
+
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveChangeLogDao {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveChangeLogDao(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Void> append(ChangeLog changeLog) {
+        return reserveSeq()
+                .flatMap(seq -> insert(seq, changeLog));
+    }
+
+    private Mono<Long> reserveSeq() {
+        String reserveSql = """
+                UPDATE change_log_head
+                SET last_seq = last_seq + 1
+                WHERE id = 1
+                """;
+        String lastSeqSql = """
+                SELECT last_seq
+                FROM change_log_head
+                WHERE id = 1
+                """;
+        return databaseClient.sql(reserveSql)
+                .then()
+                .then(databaseClient.sql(lastSeqSql)
+                        .map(row -> row.get("last_seq", Long.class))
+                        .one());
+    }
+
+    private Mono<Void> insert(long seq, ChangeLog changeLog) {
+        String sql = """
+                INSERT
+                INTO change_log
+                    (seq, entity_type, entity_id, operation, name, date, time_id, start_at)
+                VALUES
+                    (:seq, :entityType, :entityId, :operation, :name, :date, :timeId, :startAt)
+                """;
+        GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("seq", seq)
+                .bind("entityType", changeLog.getEntityType().name())
+                .bind("entityId", changeLog.getEntityId())
+                .bind("operation", changeLog.getOperation().name());
+        spec = bindNullable(spec, "name", changeLog.getName(), String.class);
+        spec = bindNullable(spec, "date", changeLog.getDate(), String.class);
+        spec = bindNullable(spec, "timeId", changeLog.getTimeId(), Long.class);
+        spec = bindNullable(spec, "startAt", changeLog.getStartAt(), String.class);
+        return spec.then();
+    }
+
+    private <T> GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name, T value, Class<T> type) {
+        if (value == null) {
+            return spec.bindNull(name, type);
+        }
+        return spec.bind(name, value);
+    }
+}
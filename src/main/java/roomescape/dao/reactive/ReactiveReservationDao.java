@@ -0,0 +1,99 @@
+package roomescape.dao.reactive;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import roomescape.dao.id.IdAllocator;
+import roomescape.dao.id.IdSequence;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveReservationDao {
+
+    private final DatabaseClient databaseClient;
+    private final IdAllocator idAllocator;
+
+    public ReactiveReservationDao(DatabaseClient databaseClient, IdAllocator idAllocator) {
+        this.databaseClient = databaseClient;
+        this.idAllocator = idAllocator;
+    }
+
+    public Flux<Reservation> findAll() {
+        String sql = """
+                SELECT
+                    r.id AS reservation_id,
+                    r.name,
+                    r.`date`,
+                    t.id AS time_id,
+                    t.room_id,
+                    t.start_at AS time_value
+                FROM reservation r
+                    INNER JOIN reservation_time t
+                    ON r.time_id = t.id
+                ORDER BY r.id
+                """;
+        return databaseClient.sql(sql)
+                .map(this::getReservation)
+                .all();
+    }
+
+    public Mono<Long> add(Reservation reservation) {
+        String sql = """
+                INSERT
+                INTO reservation
+                    (id, name, date, time_id, room_id)
+                VALUES
+                    (:id, :name, :date, :timeId, :roomId)
+                """;
+        return nextId().flatMap(id -> databaseClient.sql(sql)
+                .bind("id", id)
+                .bind("name", reservation.getName().getValue())
+                .bind("date", reservation.getDate().toStringDate())
+                .bind("timeId", reservation.getReservationTime().getId())
+                .bind("roomId", reservation.getRoomId())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(id));
+    }
+
+    public Mono<Long> delete(long id) {
+        String sql = """
+                DELETE
+                FROM reservation
+                WHERE id = :id
+                """;
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Long> nextId() {
+        return Mono.fromCallable(() -> idAllocator.next(IdSequence.RESERVATION))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Reservation getReservation(Readable row) {
+        ReservationTime reservationTime = new ReservationTime(
+                row.get("time_id", Long.class),
+                row.get("room_id", Long.class),
+                ReservationStartAt.from(row.get("time_value", String.class))
+        );
+        return new Reservation(
+                row.get("reservation_id", Long.class),
+                new ReservationName(row.get("name", String.class)),
+                ReservationDate.from(row.get("date", String.class)),
+                reservationTime
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package roomescape.dao.reactive;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import roomescape.dao.id.IdAllocator;
+import roomescape.dao.id.IdSequence;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveReservationTimeDao {
+
+    private final DatabaseClient databaseClient;
+    private final IdAllocator idAllocator;
+
+    public ReactiveReservationTimeDao(DatabaseClient databaseClient, IdAllocator idAllocator) {
+        this.databaseClient = databaseClient;
+        this.idAllocator = idAllocator;
+    }
+
+    public Flux<ReservationTime> findAll() {
+        String sql = """
+                SELECT
+                id, room_id, start_at
+                FROM reservation_time
+                ORDER BY id
+                """;
+        return databaseClient.sql(sql)
+                .map(this::getReservationTime)
+                .all();
+    }
+
+    public Mono<ReservationTime> findById(long id) {
+        String sql = """
+                SELECT
+                id, room_id, start_at
+                FROM reservation_time
+                WHERE id = :id
+                """;
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .map(this::getReservationTime)
+                .one();
+    }
+
+    public Mono<Long> add(ReservationTime reservationTime) {
+        String sql = """
+                INSERT
+                INTO reservation_time
+                    (id, room_id, start_at)
+                VALUES
+                    (:id, :roomId, :startAt)
+                """;
+        return nextId().flatMap(id -> databaseClient.sql(sql)
+                .bind("id", id)
+                .bind("roomId", reservationTime.getRoomId())
+                .bind("startAt", reservationTime.getStartAt().toStringTime())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(id));
+    }
+
+    public Mono<Long> delete(long id) {
+        String sql = """
+                DELETE
+                FROM reservation_time
+                WHERE id = :id
+                """;
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Long> nextId() {
+        return Mono.fromCallable(() -> idAllocator.next(IdSequence.RESERVATION_TIME))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ReservationTime getReservationTime(Readable row) {
+        return new ReservationTime(
+                row.get("id", Long.class),
+                row.get("room_id", Long.class),
+                ReservationStartAt.from(row.get("start_at", String.class))
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package roomescape.dao.routing;
+
+import java.util.function.Supplier;
+
+public enum DataSourceRoute {
+
+    PRIMARY,
+    REPLICA;
+
+    private static final ThreadLocal<DataSourceRoute> CURRENT = new ThreadLocal<>();
+
+    public static DataSourceRoute current() {
+        DataSourceRoute route = CURRENT.get();
+        if (route == null) {
+            return PRIMARY;
+        }
+        return route;
+    }
+
+    public static <T> T read(Supplier<T> query) {
+        if (CURRENT.get() != null) {
+            return query.get();
+        }
+        return runWith(REPLICA, query);
+    }
+
+    public static <T> T primary(Supplier<T> operation) {
+        return runWith(PRIMARY, operation);
+    }
+
+    public static void primary(Runnable operation) {
+        runWith(PRIMARY, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private static <T> T runWith(DataSourceRoute route, Supplier<T> operation) {
+        DataSourceRoute previous = CURRENT.get();
+        CURRENT.set(route);
+        try {
+            return operation.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
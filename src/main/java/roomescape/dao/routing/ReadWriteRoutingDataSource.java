@@ -0,0 +1,25 @@
+package roomescape.dao.routing;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primary,
+                DataSourceRoute.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.current();
+    }
+}
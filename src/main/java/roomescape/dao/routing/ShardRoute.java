@@ -0,0 +1,33 @@
+package roomescape.dao.routing;
+
+import java.util.function.Supplier;
+
+public final class ShardRoute {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardRoute() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        if (shard == null) {
+            return 0;
+        }
+        return shard;
+    }
+
+    public static <T> T on(int shard, Supplier<T> operation) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return operation.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package roomescape.dao.routing;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+public class ShardSchemaInitializer implements InitializingBean {
+
+    private final List<DataSource> shards;
+
+    public ShardSchemaInitializer(List<DataSource> shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (int shard = 1; shard < shards.size(); shard++) {
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(shards.get(shard));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package roomescape.dao.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShardSelector {
+
+    private final int count;
+
+    public ShardSelector(@Value("${roomescape.datasource.sharding.enabled:false}") boolean enabled,
+                         @Value("${roomescape.datasource.sharding.count:1}") int count) {
+        if (enabled && count < 1) {
+            throw new IllegalArgumentException("샤드 개수는 1 이상이어야 합니다.");
+        }
+        this.count = enabled ? count : 1;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int ofRoom(long roomId) {
+        return (int) Math.floorMod(roomId, (long) count);
+    }
+
+    public int ofId(long id) {
+        return (int) Math.floorMod(id - 1, (long) count);
+    }
+
+    public <T> T onRoom(long roomId, Supplier<T> operation) {
+        return ShardRoute.on(ofRoom(roomId), operation);
+    }
+
+    public <T> T onShardOf(long id, Supplier<T> operation) {
+        return ShardRoute.on(ofId(id), operation);
+    }
+
+    public <T> List<T> onEveryShard(Supplier<List<T>> query) {
+        if (count == 1) {
+            return ShardRoute.on(0, query);
+        }
+        List<T> results = new ArrayList<>();
+        for (int shard = 0; shard < count; shard++) {
+            results.addAll(ShardRoute.on(shard, query));
+        }
+        return results;
+    }
+}
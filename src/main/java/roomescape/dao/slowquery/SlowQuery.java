@@ -0,0 +1,52 @@
+package roomescape.dao.slowquery;
+
+import java.time.Instant;
+import java.util.List;
+
+public class SlowQuery {
+
+    private final String sql;
+    private final List<String> parameters;
+    private final int rowCount;
+    private final long durationMillis;
+    private final String plan;
+    private final Instant executedAt;
+
+    public SlowQuery(String sql,
+                     List<String> parameters,
+                     int rowCount,
+                     long durationMillis,
+                     String plan,
+                     Instant executedAt) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.rowCount = rowCount;
+        this.durationMillis = durationMillis;
+        this.plan = plan;
+        this.executedAt = executedAt;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    public Instant getExecutedAt() {
+        return executedAt;
+    }
+}
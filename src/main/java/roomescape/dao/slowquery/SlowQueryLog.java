@@ -0,0 +1,39 @@
+package roomescape.dao.slowquery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlowQueryLog {
+
+    private final SlowQuery[] entries;
+    private int next;
+    private int size;
+
+    public SlowQueryLog(@Value("${roomescape.slow-query.capacity:100}") int capacity) {
+        this.entries = new SlowQuery[capacity];
+    }
+
+    public synchronized void record(SlowQuery slowQuery) {
+        entries[next] = slowQuery;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+
+    public synchronized List<SlowQuery> findRecent() {
+        List<SlowQuery> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[(next - i + entries.length) % entries.length]);
+        }
+        return recent;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+        size = 0;
+    }
+}
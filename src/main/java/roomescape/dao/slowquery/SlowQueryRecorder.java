@@ -0,0 +1,135 @@
+package roomescape.dao.slowquery;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.timing.ServerTiming;
+
+@Component
+public class SlowQueryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryRecorder.class);
+    private static final String UNKNOWN_SQL = "(batched statements)";
+
+    private final JdbcTemplate explainTemplate;
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdNanos;
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryRecorder(DataSource dataSource,
+                             SlowQueryLog slowQueryLog,
+                             @Value("${roomescape.slow-query.threshold-millis:200}") long thresholdMillis,
+                             @Value("${roomescape.slow-query.explain-queue-capacity:100}") int explainQueueCapacity) {
+        this.explainTemplate = new JdbcTemplate(dataSource);
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.explainExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(explainQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        explainExecutor.shutdown();
+        explainExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public void recordFailure(long elapsedNanos) {
+        ServerTiming.recordDatabase(elapsedNanos);
+    }
+
+    public void record(String sql, List<Object> parameters, int rowCount, long elapsedNanos) {
+        ServerTiming.recordDatabase(elapsedNanos);
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        String statement = normalize(sql);
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        Instant executedAt = Instant.now();
+        int shard = ShardRoute.current();
+        DataSourceRoute route = DataSourceRoute.current();
+        Runnable explainAndRecord = () -> {
+            String plan = ShardRoute.on(shard, () -> explainOn(route, statement, parameters));
+            store(statement, parameters, rowCount, durationMillis, plan, executedAt);
+        };
+        try {
+            explainExecutor.execute(explainAndRecord);
+        } catch (RejectedExecutionException e) {
+            log.debug("실행 계획 대기열이 가득 차서 실행 계획 없이 기록합니다. sql={}", statement);
+            store(statement, parameters, rowCount, durationMillis, null, executedAt);
+        }
+    }
+
+    private String explainOn(DataSourceRoute route, String sql, List<Object> parameters) {
+        if (route == DataSourceRoute.REPLICA) {
+            return DataSourceRoute.read(() -> explain(sql, parameters));
+        }
+        return DataSourceRoute.primary(() -> explain(sql, parameters));
+    }
+
+    private String explain(String sql, List<Object> parameters) {
+        if (UNKNOWN_SQL.equals(sql)) {
+            return null;
+        }
+        String upper = sql.toUpperCase(Locale.ROOT);
+        if (!upper.startsWith("SELECT") && !upper.startsWith("INSERT")
+                && !upper.startsWith("UPDATE") && !upper.startsWith("DELETE")) {
+            return null;
+        }
+        String keyword = upper.startsWith("SELECT") && !hasSideEffects(upper) ? "EXPLAIN ANALYZE " : "EXPLAIN ";
+        try {
+            return explainTemplate.queryForObject(keyword + sql, String.class, parameters.toArray());
+        } catch (DataAccessException e) {
+            log.debug("실행 계획을 가져오지 못했습니다. sql={}", sql, e);
+            return null;
+        }
+    }
+
+    private boolean hasSideEffects(String upperSql) {
+        return upperSql.contains("NEXT VALUE FOR") || upperSql.contains("FOR UPDATE");
+    }
+
+    private void store(String statement,
+                       List<Object> parameters,
+                       int rowCount,
+                       long durationMillis,
+                       String plan,
+                       Instant executedAt) {
+        List<String> printed = parameters.stream()
+                .map(String::valueOf)
+                .toList();
+        log.warn("느린 쿼리 {}ms rows={} parameters={}\n{}\n{}", durationMillis, rowCount, printed, statement, plan);
+        slowQueryLog.record(new SlowQuery(statement, printed, rowCount, durationMillis, plan, executedAt));
+    }
+
+    private String normalize(String sql) {
+        String statement = sql == null ? UNKNOWN_SQL : sql.strip();
+        if (statement.endsWith(";")) {
+            return statement.substring(0, statement.length() - 1);
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,209 @@
+package roomescape.dao.slowquery;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntToLongFunction;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+    private final SlowQueryRecorder recorder;
+
+    public StatementTimingDataSource(DataSource target, SlowQueryRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                StatementTimingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                handler
+        ));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        protected final Object target;
+
+        protected DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> target.toString();
+                default -> handle(method, args);
+            };
+        }
+
+        protected abstract Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private class ConnectionHandler extends DelegatingHandler {
+
+        private ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = StatementTimingDataSource.invoke(target, method, args);
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+            String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+            return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+        }
+    }
+
+    private class StatementHandler extends DelegatingHandler {
+
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+        private String sql;
+        private ResultSetHandler openResultSet;
+
+        private StatementHandler(Statement target, String sql) {
+            super(target);
+            this.sql = sql;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if ("addBatch".equals(name) && args != null) {
+                sql = null;
+            } else if ("close".equals(name) && openResultSet != null) {
+                openResultSet.report();
+            }
+            return StatementTimingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String executedSql = args != null && args.length > 0 && args[0] instanceof String given ? given : sql;
+            List<Object> executedParameters = Collections.unmodifiableList(new ArrayList<>(parameters.values()));
+            long startedAt = System.nanoTime();
+            Object result;
+            try {
+                result = StatementTimingDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                recorder.recordFailure(System.nanoTime() - startedAt);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            if (result instanceof ResultSet resultSet) {
+                openResultSet = new ResultSetHandler(resultSet, executedSql, executedParameters, elapsed);
+                return proxy(ResultSet.class, openResultSet);
+            }
+            recorder.record(executedSql, executedParameters, rowCount(result), elapsed);
+            return result;
+        }
+
+        private int rowCount(Object result) {
+            if (result instanceof Number count) {
+                return count.intValue();
+            }
+            if (result instanceof int[] counts) {
+                return sum(counts.length, index -> counts[index]);
+            }
+            if (result instanceof long[] counts) {
+                return sum(counts.length, index -> counts[index]);
+            }
+            return 0;
+        }
+
+        private int sum(int length, IntToLongFunction count) {
+            long total = 0;
+            for (int i = 0; i < length; i++) {
+                total += Math.max(0, count.applyAsLong(i));
+            }
+            return (int) total;
+        }
+    }
+
+    private class ResultSetHandler extends DelegatingHandler {
+
+        private final String sql;
+        private final List<Object> parameters;
+        private long elapsedNanos;
+        private int rowCount;
+        private boolean reported;
+
+        private ResultSetHandler(ResultSet target, String sql, List<Object> parameters, long executeNanos) {
+            super(target);
+            this.sql = sql;
+            this.parameters = parameters;
+            this.elapsedNanos = executeNanos;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("next".equals(name)) {
+                long startedAt = System.nanoTime();
+                boolean hasNext = (boolean) StatementTimingDataSource.invoke(target, method, args);
+                elapsedNanos += System.nanoTime() - startedAt;
+                if (hasNext) {
+                    rowCount++;
+                }
+                return hasNext;
+            }
+            if ("close".equals(name)) {
+                try {
+                    return StatementTimingDataSource.invoke(target, method, args);
+                } finally {
+                    report();
+                }
+            }
+            return StatementTimingDataSource.invoke(target, method, args);
+        }
+
+        private void report() {
+            if (reported) {
+                return;
+            }
+            reported = true;
+            recorder.record(sql, parameters, rowCount, elapsedNanos);
+        }
+    }
+}
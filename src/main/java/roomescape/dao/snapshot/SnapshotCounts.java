@@ -0,0 +1,13 @@
+package roomescape.dao.snapshot;
+
+public record SnapshotCounts(long reservationTimes, long reservations) {
+
+    public static final SnapshotCounts EMPTY = new SnapshotCounts(0, 0);
+
+    public SnapshotCounts plus(SnapshotCounts other) {
+        return new SnapshotCounts(
+                reservationTimes + other.reservationTimes,
+                reservations + other.reservations
+        );
+    }
+}
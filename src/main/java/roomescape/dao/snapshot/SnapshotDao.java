@@ -0,0 +1,158 @@
+package roomescape.dao.snapshot;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.h2.engine.Constants;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SnapshotDao {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SnapshotDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public SnapshotCounts write(DataOutput out) {
+        return jdbcTemplate.execute((ConnectionCallback<SnapshotCounts>) connection -> {
+            int previousIsolation = connection.getTransactionIsolation();
+            boolean previousAutoCommit = connection.getAutoCommit();
+            connection.setTransactionIsolation(Constants.TRANSACTION_SNAPSHOT);
+            connection.setAutoCommit(false);
+            try {
+                long reservationTimes = writeReservationTimes(connection, out);
+                long reservations = writeReservations(connection, out);
+                connection.commit();
+                return new SnapshotCounts(reservationTimes, reservations);
+            } catch (IOException e) {
+                connection.rollback();
+                throw new UncheckedIOException(e);
+            } finally {
+                connection.setAutoCommit(previousAutoCommit);
+                connection.setTransactionIsolation(previousIsolation);
+            }
+        });
+    }
+
+    public SnapshotCounts restoreSection(DataInput in) {
+        return jdbcTemplate.execute((ConnectionCallback<SnapshotCounts>) connection -> {
+            try (PreparedStatement times = connection.prepareStatement("""
+                    INSERT INTO reservation_time (id, room_id, start_at) VALUES (?, ?, ?)
+                    """);
+                 PreparedStatement reservations = connection.prepareStatement("""
+                         INSERT INTO reservation (id, name, date, time_id, room_id) VALUES (?, ?, ?, ?, ?)
+                         """)) {
+                return restoreRecords(in, times, reservations);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public boolean isEmpty() {
+        String sql = """
+                SELECT
+                CASE
+                    WHEN EXISTS (SELECT 1 FROM reservation_time)
+                    THEN FALSE
+                    ELSE TRUE
+                END
+                """;
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class));
+    }
+
+    private long writeReservationTimes(Connection connection, DataOutput out) throws SQLException, IOException {
+        String sql = """
+                SELECT id, room_id, start_at
+                FROM reservation_time
+                ORDER BY id
+                """;
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    out.writeByte(SnapshotFormat.RESERVATION_TIME);
+                    out.writeLong(resultSet.getLong(1));
+                    out.writeLong(resultSet.getLong(2));
+                    out.writeUTF(resultSet.getString(3));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private long writeReservations(Connection connection, DataOutput out) throws SQLException, IOException {
+        String sql = """
+                SELECT id, name, `date`, time_id, room_id
+                FROM reservation
+                ORDER BY id
+                """;
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    out.writeByte(SnapshotFormat.RESERVATION);
+                    out.writeLong(resultSet.getLong(1));
+                    out.writeUTF(resultSet.getString(2));
+                    out.writeUTF(resultSet.getString(3));
+                    out.writeLong(resultSet.getLong(4));
+                    out.writeLong(resultSet.getLong(5));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private SnapshotCounts restoreRecords(DataInput in,
+                                          PreparedStatement times,
+                                          PreparedStatement reservations) throws SQLException, IOException {
+        long timeCount = 0;
+        long reservationCount = 0;
+        byte type;
+        while ((type = in.readByte()) != SnapshotFormat.SECTION_END) {
+            if (type == SnapshotFormat.RESERVATION_TIME) {
+                times.setLong(1, in.readLong());
+                times.setLong(2, in.readLong());
+                times.setString(3, in.readUTF());
+                times.addBatch();
+                timeCount++;
+            } else if (type == SnapshotFormat.RESERVATION) {
+                if (reservationCount == 0) {
+                    times.executeBatch();
+                }
+                reservations.setLong(1, in.readLong());
+                reservations.setString(2, in.readUTF());
+                reservations.setString(3, in.readUTF());
+                reservations.setLong(4, in.readLong());
+                reservations.setLong(5, in.readLong());
+                reservations.addBatch();
+                reservationCount++;
+            } else {
+                throw new IOException("알 수 없는 스냅숏 레코드입니다: " + type);
+            }
+            if ((timeCount + reservationCount) % BATCH_SIZE == 0) {
+                times.executeBatch();
+                reservations.executeBatch();
+            }
+        }
+        times.executeBatch();
+        reservations.executeBatch();
+        return new SnapshotCounts(timeCount, reservationCount);
+    }
+}
@@ -0,0 +1,16 @@
+package roomescape.dao.snapshot;
+
+public final class SnapshotFormat {
+
+    public static final int MAGIC = 0x52455343;
+    public static final int VERSION = 1;
+
+    public static final byte END = 0;
+    public static final byte SECTION = 1;
+    public static final byte RESERVATION_TIME = 2;
+    public static final byte RESERVATION = 3;
+    public static final byte SECTION_END = 4;
+
+    private SnapshotFormat() {
+    }
+}
@@ -0,0 +1,45 @@
+package roomescape.domain.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NameDictionary {
+
+    public static final int ABSENT = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    public int encode(String name) {
+        Integer code = codes.get(name);
+        if (code != null) {
+            return code;
+        }
+        int created = names.size();
+        names.add(name);
+        codes.put(name, created);
+        return created;
+    }
+
+    public int find(String name) {
+        return codes.getOrDefault(name, ABSENT);
+    }
+
+    public String decode(int code) {
+        return names.get(code);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (String name : names) {
+            bytes += 40L + name.length();
+        }
+        return bytes + 48L * names.size();
+    }
+}
@@ -0,0 +1,186 @@
+package roomescape.domain.analytics;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class ReservationColumns {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int SCAN_CHUNK_SIZE = 1 << 15;
+    private static final int DELETED = -1;
+    private static final int ANY_NAME = -2;
+    private static final long ANY_TIME = 0;
+
+    private final NameDictionary names = new NameDictionary();
+    private RowIndex index = new RowIndex(INITIAL_CAPACITY);
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private short[] minutes = new short[INITIAL_CAPACITY];
+    private long[] timeIds = new long[INITIAL_CAPACITY];
+    private int[] nameCodes = new int[INITIAL_CAPACITY];
+    private int size;
+    private int deletedCount;
+
+    public boolean append(long id, String name, int epochDay, int minuteOfDay, long timeId) {
+        if (index.get(id) >= 0) {
+            return false;
+        }
+        ensureCapacity();
+        ids[size] = id;
+        epochDays[size] = epochDay;
+        minutes[size] = (short) minuteOfDay;
+        timeIds[size] = timeId;
+        nameCodes[size] = names.encode(name);
+        index.put(id, size);
+        size++;
+        return true;
+    }
+
+    public boolean remove(long id) {
+        int row = index.get(id);
+        if (row < 0 || nameCodes[row] == DELETED) {
+            return false;
+        }
+        nameCodes[row] = DELETED;
+        deletedCount++;
+        if (deletedCount > INITIAL_CAPACITY && deletedCount * 4 > size) {
+            compact();
+        }
+        return true;
+    }
+
+    public int liveCount() {
+        return size - deletedCount;
+    }
+
+    public int distinctNames() {
+        return names.size();
+    }
+
+    public long estimatedBytes() {
+        long perRow = Long.BYTES + Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+        return perRow * ids.length + index.estimatedBytes() + names.estimatedBytes();
+    }
+
+    public int[] countByDay(int fromDay, int toDay, String name) {
+        int days = toDay - fromDay + 1;
+        int nameCode = resolveName(name);
+        if (nameCode == NameDictionary.ABSENT) {
+            return new int[days];
+        }
+        int[] dayColumn = epochDays;
+        int[] nameColumn = nameCodes;
+        return scan(days, (row, counts) -> {
+            int day = dayColumn[row] - fromDay;
+            int code = nameColumn[row];
+            if (code != DELETED && day >= 0 && day < days && (nameCode == ANY_NAME || code == nameCode)) {
+                counts[day]++;
+            }
+        });
+    }
+
+    public int[] countByMinute(int fromDay, int toDay) {
+        int[] dayColumn = epochDays;
+        short[] minuteColumn = minutes;
+        int[] nameColumn = nameCodes;
+        return scan(MINUTES_PER_DAY, (row, counts) -> {
+            int day = dayColumn[row];
+            if (nameColumn[row] != DELETED && day >= fromDay && day <= toDay) {
+                counts[minuteColumn[row]]++;
+            }
+        });
+    }
+
+    public long count(int fromDay, int toDay, int fromMinute, int toMinute, Long timeId, String name) {
+        int nameCode = resolveName(name);
+        if (nameCode == NameDictionary.ABSENT) {
+            return 0;
+        }
+        long wantedTimeId = timeId == null ? ANY_TIME : timeId;
+        int[] dayColumn = epochDays;
+        short[] minuteColumn = minutes;
+        long[] timeColumn = timeIds;
+        int[] nameColumn = nameCodes;
+        int[] counts = scan(1, (row, result) -> {
+            int day = dayColumn[row];
+            int minute = minuteColumn[row];
+            int code = nameColumn[row];
+            if (code != DELETED && day >= fromDay && day <= toDay && minute >= fromMinute && minute <= toMinute
+                    && (wantedTimeId == ANY_TIME || timeColumn[row] == wantedTimeId)
+                    && (nameCode == ANY_NAME || code == nameCode)) {
+                result[0]++;
+            }
+        });
+        return counts[0];
+    }
+
+    private int resolveName(String name) {
+        if (name == null) {
+            return ANY_NAME;
+        }
+        return names.find(name);
+    }
+
+    private int[] scan(int buckets, RowCounter counter) {
+        int rows = size;
+        int chunks = (rows + SCAN_CHUNK_SIZE - 1) / SCAN_CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    int[] counts = new int[buckets];
+                    int to = Math.min(rows, (chunk + 1) * SCAN_CHUNK_SIZE);
+                    for (int row = chunk * SCAN_CHUNK_SIZE; row < to; row++) {
+                        counter.count(row, counts);
+                    }
+                    return counts;
+                })
+                .reduce(ReservationColumns::sum)
+                .orElseGet(() -> new int[buckets]);
+    }
+
+    private static int[] sum(int[] left, int[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private void ensureCapacity() {
+        if (size < ids.length) {
+            return;
+        }
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        minutes = Arrays.copyOf(minutes, capacity);
+        timeIds = Arrays.copyOf(timeIds, capacity);
+        nameCodes = Arrays.copyOf(nameCodes, capacity);
+    }
+
+    private void compact() {
+        int live = 0;
+        index = new RowIndex(size - deletedCount);
+        for (int row = 0; row < size; row++) {
+            if (nameCodes[row] == DELETED) {
+                continue;
+            }
+            ids[live] = ids[row];
+            epochDays[live] = epochDays[row];
+            minutes[live] = minutes[row];
+            timeIds[live] = timeIds[row];
+            nameCodes[live] = nameCodes[row];
+            index.put(ids[live], live);
+            live++;
+        }
+        size = live;
+        deletedCount = 0;
+    }
+
+    @FunctionalInterface
+    private interface RowCounter {
+
+        void count(int row, int[] counts);
+    }
+}
@@ -0,0 +1,63 @@
+package roomescape.domain.analytics;
+
+class RowIndex {
+
+    private static final long EMPTY = 0;
+    private static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] rows;
+    private int size;
+
+    RowIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.rows = new int[capacity];
+    }
+
+    void put(long id, int row) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int slot = findSlot(id);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = id;
+            size++;
+        }
+        rows[slot] = row;
+    }
+
+    int get(long id) {
+        int slot = findSlot(id);
+        if (keys[slot] == EMPTY) {
+            return MISSING;
+        }
+        return rows[slot];
+    }
+
+    long estimatedBytes() {
+        return (long) keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    private int findSlot(long id) {
+        int mask = keys.length - 1;
+        int slot = Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldRows = rows;
+        keys = new long[oldKeys.length * 2];
+        rows = new int[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldRows[i]);
+            }
+        }
+    }
+}
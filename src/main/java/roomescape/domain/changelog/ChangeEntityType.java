@@ -0,0 +1,7 @@
+package roomescape.domain.changelog;
+
+public enum ChangeEntityType {
+
+    RESERVATION,
+    RESERVATION_TIME
+}
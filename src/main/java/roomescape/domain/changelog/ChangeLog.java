@@ -0,0 +1,119 @@
+package roomescape.domain.changelog;
+
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservationtime.ReservationTime;
+
+public class ChangeLog {
+
+    private final Long seq;
+    private final ChangeEntityType entityType;
+    private final long entityId;
+    private final ChangeOperation operation;
+    private final String name;
+    private final String date;
+    private final Long timeId;
+    private final String startAt;
+
+    public ChangeLog(Long seq,
+                     ChangeEntityType entityType,
+                     long entityId,
+                     ChangeOperation operation,
+                     String name,
+                     String date,
+                     Long timeId,
+                     String startAt) {
+        this.seq = seq;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.name = name;
+        this.date = date;
+        this.timeId = timeId;
+        this.startAt = startAt;
+    }
+
+    public static ChangeLog reservationCreated(long id, Reservation reservation) {
+        ReservationTime reservationTime = reservation.getReservationTime();
+        return new ChangeLog(
+                null,
+                ChangeEntityType.RESERVATION,
+                id,
+                ChangeOperation.CREATED,
+                reservation.getName().getValue(),
+                reservation.getDate().toStringDate(),
+                reservationTime.getId(),
+                reservationTime.getStartAt().toStringTime()
+        );
+    }
+
+    public static ChangeLog reservationDeleted(long id) {
+        return new ChangeLog(
+                null,
+                ChangeEntityType.RESERVATION,
+                id,
+                ChangeOperation.DELETED,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    public static ChangeLog reservationTimeCreated(long id, ReservationTime reservationTime) {
+        return new ChangeLog(
+                null,
+                ChangeEntityType.RESERVATION_TIME,
+                id,
+                ChangeOperation.CREATED,
+                null,
+                null,
+                null,
+                reservationTime.getStartAt().toStringTime()
+        );
+    }
+
+    public static ChangeLog reservationTimeDeleted(long id) {
+        return new ChangeLog(
+                null,
+                ChangeEntityType.RESERVATION_TIME,
+                id,
+                ChangeOperation.DELETED,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public ChangeEntityType getEntityType() {
+        return entityType;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+
+    public ChangeOperation getOperation() {
+        return operation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public String getStartAt() {
+        return startAt;
+    }
+}
@@ -0,0 +1,7 @@
+package roomescape.domain.changelog;
+
+public enum ChangeOperation {
+
+    CREATED,
+    DELETED
+}
@@ -34,4 +34,8 @@ public class Reservation {
     public ReservationTime getReservationTime() {
         return reservationTime;
     }
+
+    public long getRoomId() {
+        return reservationTime.getRoomId();
+    }
 }
@@ -1,36 +1,86 @@
 package roomescape.domain.reservation;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import roomescape.exception.InvalidInputException;
 
 public class ReservationDate {
 
+    private static final int DATE_LENGTH = 10;
+    private static final String INVALID_FORMAT_MESSAGE = "예약 날짜 형식은 yyyy-MM-dd 이어야 합니다.";
+
     private final LocalDate value;
+    private final String text;
 
-    private ReservationDate(LocalDate value) {
+    private ReservationDate(LocalDate value, String text) {
         this.value = value;
+        this.text = text;
     }
 
     public static ReservationDate from(String value) {
         validateValue(value);
-        return new ReservationDate(convertLocalDate(value));
+        return new ReservationDate(convertLocalDate(value), value);
+    }
+
+    public static ReservationDate ofEpochDay(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return new ReservationDate(date, date.toString());
     }
 
     private static LocalDate convertLocalDate(String value) {
-        try {
-            return LocalDate.parse(value);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("예약 날짜 형식은 yyyy-MM-dd 이어야 합니다.");
+        if (value.length() != DATE_LENGTH || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            throw new InvalidInputException(INVALID_FORMAT_MESSAGE);
+        }
+        int year = parseDigits(value, 0, 4);
+        int month = parseDigits(value, 5, 7);
+        int day = parseDigits(value, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            throw new InvalidInputException(INVALID_FORMAT_MESSAGE);
         }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int parseDigits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
     }
 
     private static void validateValue(String value) {
         if (value == null) {
-            throw new IllegalArgumentException("예약 날짜는 비어있을 수 없습니다.");
+            throw new InvalidInputException("예약 날짜는 비어있을 수 없습니다.");
         }
     }
 
+    public boolean isAfter(ReservationDate other) {
+        return value.isAfter(other.value);
+    }
+
+    public long daysUntil(ReservationDate other) {
+        return ChronoUnit.DAYS.between(value, other.value);
+    }
+
+    public List<ReservationDate> rangeClosedTo(ReservationDate end) {
+        return value.datesUntil(end.value.plusDays(1))
+                .map(date -> new ReservationDate(date, date.toString()))
+                .toList();
+    }
+
+    public int toEpochDay() {
+        return (int) value.toEpochDay();
+    }
+
     public String toStringDate() {
-        return value.toString();
+        return text;
     }
 }
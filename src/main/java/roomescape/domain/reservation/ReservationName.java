@@ -1,5 +1,7 @@
 package roomescape.domain.reservation;
 
+import roomescape.exception.InvalidInputException;
+
 public class ReservationName {
 
     private final String value;
@@ -11,7 +13,7 @@ public class ReservationName {
 
     private void validateNull(String value) {
         if (value == null) {
-            throw new IllegalArgumentException("이름은 비어있을 수 없습니다.");
+            throw new InvalidInputException("이름은 비어있을 수 없습니다.");
         }
     }
 
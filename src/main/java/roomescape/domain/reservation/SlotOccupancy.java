@@ -0,0 +1,32 @@
+package roomescape.domain.reservation;
+
+import roomescape.domain.reservationtime.ReservationTime;
+
+public class SlotOccupancy {
+
+    private final ReservationTime reservationTime;
+    private final ReservationDate reservationDate;
+    private final int count;
+
+    public SlotOccupancy(ReservationTime reservationTime, ReservationDate reservationDate, int count) {
+        this.reservationTime = reservationTime;
+        this.reservationDate = reservationDate;
+        this.count = count;
+    }
+
+    public boolean hasReservation() {
+        return reservationDate != null && count > 0;
+    }
+
+    public ReservationTime getReservationTime() {
+        return reservationTime;
+    }
+
+    public ReservationDate getDate() {
+        return reservationDate;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -1,39 +1,92 @@
 package roomescape.domain.reservationtime;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import roomescape.exception.InvalidInputException;
 
 public class ReservationStartAt {
 
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final int TIME_LENGTH = 5;
+    private static final String INVALID_FORMAT_MESSAGE = "시작 시간 형식은 HH:mm 이어야 합니다.";
+    private static final ReservationStartAt[] CANONICAL_INSTANCES = createCanonicalInstances();
 
-    private final LocalTime value;
+    private final int minuteOfDay;
+    private final String text;
 
-    private ReservationStartAt(LocalTime value) {
-        this.value = value;
+    private ReservationStartAt(int minuteOfDay, String text) {
+        this.minuteOfDay = minuteOfDay;
+        this.text = text;
     }
 
     public static ReservationStartAt from(String value) {
         validateValue(value);
-        return new ReservationStartAt(convertLocalDate(value));
+        return CANONICAL_INSTANCES[convertMinuteOfDay(value)];
     }
 
-    private static LocalTime convertLocalDate(String value) {
+    public static ReservationStartAt ofMinuteOfDay(int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            throw new InvalidInputException(INVALID_FORMAT_MESSAGE);
+        }
+        return CANONICAL_INSTANCES[minuteOfDay];
+    }
+
+    private static ReservationStartAt[] createCanonicalInstances() {
+        ReservationStartAt[] instances = new ReservationStartAt[MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            int hour = minuteOfDay / MINUTES_PER_HOUR;
+            int minute = minuteOfDay % MINUTES_PER_HOUR;
+            String text = String.format("%02d:%02d", hour, minute);
+            instances[minuteOfDay] = new ReservationStartAt(minuteOfDay, text);
+        }
+        return instances;
+    }
+
+    private static int convertMinuteOfDay(String value) {
+        if (value.length() != TIME_LENGTH) {
+            return convertMinuteOfDayFallback(value);
+        }
+        int hour = parseDigits(value, 0, 2);
+        int minute = parseDigits(value, 3, 5);
+        if (value.charAt(2) != ':' || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            throw new InvalidInputException(INVALID_FORMAT_MESSAGE);
+        }
+        return hour * MINUTES_PER_HOUR + minute;
+    }
+
+    private static int convertMinuteOfDayFallback(String value) {
         try {
-            return LocalTime.parse(value);
+            LocalTime time = LocalTime.parse(value);
+            return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("시작 시간 형식은 HH:mm 이어야 합니다.");
+            throw new InvalidInputException(INVALID_FORMAT_MESSAGE);
         }
     }
 
+    private static int parseDigits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
     private static void validateValue(String value) {
         if (value == null) {
-            throw new IllegalArgumentException("시작 시간은 비어있을 수 없습니다.");
+            throw new InvalidInputException("시작 시간은 비어있을 수 없습니다.");
         }
     }
 
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
     public String toStringTime() {
-        return value.format(TIME_FORMATTER);
+        return text;
     }
 }
@@ -2,11 +2,19 @@ package roomescape.domain.reservationtime;
 
 public class ReservationTime {
 
+    public static final long DEFAULT_ROOM_ID = 1L;
+
     private final Long id;
+    private final long roomId;
     private final ReservationStartAt reservationStartAt;
 
     public ReservationTime(Long id, ReservationStartAt reservationStartAt) {
+        this(id, DEFAULT_ROOM_ID, reservationStartAt);
+    }
+
+    public ReservationTime(Long id, long roomId, ReservationStartAt reservationStartAt) {
         this.id = id;
+        this.roomId = roomId;
         this.reservationStartAt = reservationStartAt;
     }
 
@@ -14,6 +22,10 @@ public class ReservationTime {
         return id;
     }
 
+    public long getRoomId() {
+        return roomId;
+    }
+
     public ReservationStartAt getStartAt() {
         return reservationStartAt;
     }
@@ -0,0 +1,44 @@
+package roomescape.dto;
+
+import java.util.Objects;
+
+public class ErrorResponse {
+
+    private final String message;
+
+    private ErrorResponse(String message) {
+        this.message = message;
+    }
+
+    public static ErrorResponse from(String message) {
+        return new ErrorResponse(message);
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ErrorResponse other = (ErrorResponse) o;
+        return Objects.equals(this.message, other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(message);
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorResponse{" +
+                "message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package roomescape.dto.analytics;
+
+import roomescape.domain.analytics.ReservationColumns;
+
+public class ColumnStoreStatsResponse {
+
+    private final int rows;
+    private final int distinctNames;
+    private final long estimatedBytes;
+
+    private ColumnStoreStatsResponse(int rows, int distinctNames, long estimatedBytes) {
+        this.rows = rows;
+        this.distinctNames = distinctNames;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public static ColumnStoreStatsResponse from(ReservationColumns columns) {
+        return new ColumnStoreStatsResponse(
+                columns.liveCount(),
+                columns.distinctNames(),
+                columns.estimatedBytes()
+        );
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getDistinctNames() {
+        return distinctNames;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+}
@@ -0,0 +1,24 @@
+package roomescape.dto.analytics;
+
+public class DailyCountResponse {
+
+    private final String date;
+    private final int count;
+
+    private DailyCountResponse(String date, int count) {
+        this.date = date;
+        this.count = count;
+    }
+
+    public static DailyCountResponse of(String date, int count) {
+        return new DailyCountResponse(date, count);
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,18 @@
+package roomescape.dto.analytics;
+
+public class ReservationCountResponse {
+
+    private final long count;
+
+    private ReservationCountResponse(long count) {
+        this.count = count;
+    }
+
+    public static ReservationCountResponse from(long count) {
+        return new ReservationCountResponse(count);
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
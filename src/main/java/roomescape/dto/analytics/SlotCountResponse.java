@@ -0,0 +1,24 @@
+package roomescape.dto.analytics;
+
+public class SlotCountResponse {
+
+    private final String startAt;
+    private final int count;
+
+    private SlotCountResponse(String startAt, int count) {
+        this.startAt = startAt;
+        this.count = count;
+    }
+
+    public static SlotCountResponse of(String startAt, int count) {
+        return new SlotCountResponse(startAt, count);
+    }
+
+    public String getStartAt() {
+        return startAt;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package roomescape.dto.audit;
+
+import java.time.Instant;
+import roomescape.audit.AuditRecord;
+
+public class AuditRecordResponse {
+
+    private final String timestamp;
+    private final String entityType;
+    private final String operation;
+    private final long entityId;
+
+    private AuditRecordResponse(String timestamp, String entityType, String operation, long entityId) {
+        this.timestamp = timestamp;
+        this.entityType = entityType;
+        this.operation = operation;
+        this.entityId = entityId;
+    }
+
+    public static AuditRecordResponse from(AuditRecord record) {
+        return new AuditRecordResponse(
+                Instant.ofEpochMilli(record.timestampMillis()).toString(),
+                record.entityType().name(),
+                record.operation().name(),
+                record.entityId()
+        );
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+}
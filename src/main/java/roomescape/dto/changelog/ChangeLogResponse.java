@@ -0,0 +1,78 @@
+package roomescape.dto.changelog;
+
+import roomescape.domain.changelog.ChangeLog;
+
+public class ChangeLogResponse {
+
+    private final long seq;
+    private final String entityType;
+    private final long entityId;
+    private final String operation;
+    private final String name;
+    private final String date;
+    private final Long timeId;
+    private final String startAt;
+
+    private ChangeLogResponse(long seq,
+                              String entityType,
+                              long entityId,
+                              String operation,
+                              String name,
+                              String date,
+                              Long timeId,
+                              String startAt) {
+        this.seq = seq;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.name = name;
+        this.date = date;
+        this.timeId = timeId;
+        this.startAt = startAt;
+    }
+
+    public static ChangeLogResponse from(ChangeLog changeLog) {
+        return new ChangeLogResponse(
+                changeLog.getSeq(),
+                changeLog.getEntityType().name(),
+                changeLog.getEntityId(),
+                changeLog.getOperation().name(),
+                changeLog.getName(),
+                changeLog.getDate(),
+                changeLog.getTimeId(),
+                changeLog.getStartAt()
+        );
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public String getStartAt() {
+        return startAt;
+    }
+}
@@ -0,0 +1,42 @@
+package roomescape.dto.changelog;
+
+import java.util.List;
+
+public class ChangesResponse {
+
+    private final List<ChangeLogResponse> changes;
+    private final long lastSeq;
+    private final boolean hasMore;
+    private final boolean resyncRequired;
+
+    private ChangesResponse(List<ChangeLogResponse> changes, long lastSeq, boolean hasMore, boolean resyncRequired) {
+        this.changes = changes;
+        this.lastSeq = lastSeq;
+        this.hasMore = hasMore;
+        this.resyncRequired = resyncRequired;
+    }
+
+    public static ChangesResponse of(List<ChangeLogResponse> changes, long lastSeq, boolean hasMore) {
+        return new ChangesResponse(changes, lastSeq, hasMore, false);
+    }
+
+    public static ChangesResponse resyncRequired(long compactedThrough) {
+        return new ChangesResponse(List.of(), compactedThrough, false, true);
+    }
+
+    public List<ChangeLogResponse> getChanges() {
+        return changes;
+    }
+
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+}
@@ -0,0 +1,155 @@
+package roomescape.dto.pool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import roomescape.dao.pool.ConnectionPoolMetrics;
+import roomescape.dao.pool.LatencyHistogram;
+import roomescape.dao.pool.MonitoredPool;
+
+public class ConnectionPoolResponse {
+
+    private final String name;
+    private final int active;
+    private final int idle;
+    private final int total;
+    private final int pending;
+    private final int maximumPoolSize;
+    private final long leakDetectionThresholdMillis;
+    private final long timeouts;
+    private final long longHeldConnections;
+    private final HistogramResponse acquireTime;
+    private final HistogramResponse usageTime;
+
+    private ConnectionPoolResponse(String name,
+                                   int active,
+                                   int idle,
+                                   int total,
+                                   int pending,
+                                   int maximumPoolSize,
+                                   long leakDetectionThresholdMillis,
+                                   long timeouts,
+                                   long longHeldConnections,
+                                   HistogramResponse acquireTime,
+                                   HistogramResponse usageTime) {
+        this.name = name;
+        this.active = active;
+        this.idle = idle;
+        this.total = total;
+        this.pending = pending;
+        this.maximumPoolSize = maximumPoolSize;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+        this.timeouts = timeouts;
+        this.longHeldConnections = longHeldConnections;
+        this.acquireTime = acquireTime;
+        this.usageTime = usageTime;
+    }
+
+    public static ConnectionPoolResponse from(MonitoredPool pool) {
+        ConnectionPoolMetrics metrics = pool.getMetrics();
+        return new ConnectionPoolResponse(
+                pool.getName(),
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                pool.getPendingThreads(),
+                pool.getMaximumPoolSize(),
+                pool.getLeakDetectionThresholdMillis(),
+                metrics.getTimeouts(),
+                metrics.getLongHeldConnections(),
+                HistogramResponse.from(metrics.getAcquireTime()),
+                HistogramResponse.from(metrics.getUsageTime())
+        );
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getLongHeldConnections() {
+        return longHeldConnections;
+    }
+
+    public HistogramResponse getAcquireTime() {
+        return acquireTime;
+    }
+
+    public HistogramResponse getUsageTime() {
+        return usageTime;
+    }
+
+    public static class HistogramResponse {
+
+        private final long count;
+        private final long meanMicros;
+        private final long maxMicros;
+        private final Map<String, Long> buckets;
+
+        private HistogramResponse(long count, long meanMicros, long maxMicros, Map<String, Long> buckets) {
+            this.count = count;
+            this.meanMicros = meanMicros;
+            this.maxMicros = maxMicros;
+            this.buckets = buckets;
+        }
+
+        public static HistogramResponse from(LatencyHistogram histogram) {
+            long count = histogram.getCount();
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            for (LatencyHistogram.Bucket bucket : histogram.getBuckets()) {
+                String label = bucket.upperBoundMicros() == Long.MAX_VALUE
+                        ? "+Inf"
+                        : String.valueOf(bucket.upperBoundMicros());
+                buckets.put(label, bucket.count());
+            }
+            return new HistogramResponse(
+                    count,
+                    count == 0 ? 0 : histogram.getSumMicros() / count,
+                    histogram.getMaxMicros(),
+                    buckets
+            );
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMeanMicros() {
+            return meanMicros;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        public Map<String, Long> getBuckets() {
+            return buckets;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package roomescape.dto.reservation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+
+public class ReservationCalendarResponse {
+
+    private final List<String> dates;
+    private final List<ReservationTimeResponse> times;
+    private final int[][] counts;
+
+    private ReservationCalendarResponse(List<String> dates, List<ReservationTimeResponse> times, int[][] counts) {
+        this.dates = dates;
+        this.times = times;
+        this.counts = counts;
+    }
+
+    public static ReservationCalendarResponse of(List<String> dates,
+                                                 List<ReservationTimeResponse> times,
+                                                 int[][] counts) {
+        return new ReservationCalendarResponse(dates, times, counts);
+    }
+
+    public List<String> getDates() {
+        return dates;
+    }
+
+    public List<ReservationTimeResponse> getTimes() {
+        return times;
+    }
+
+    public int[][] getCounts() {
+        return counts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationCalendarResponse other = (ReservationCalendarResponse) o;
+        return Objects.equals(this.dates, other.dates)
+                && Objects.equals(this.times, other.times)
+                && Arrays.deepEquals(this.counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dates, times, Arrays.deepHashCode(counts));
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationCalendarResponse{" +
+                "dates=" + dates +
+                ", times=" + times +
+                ", counts=" + Arrays.deepToString(counts) +
+                '}';
+    }
+}
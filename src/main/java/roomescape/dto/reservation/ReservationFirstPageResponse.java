@@ -0,0 +1,81 @@
+package roomescape.dto.reservation;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ReservationFirstPageResponse {
+
+    private final List<ReservationResponse> reservations;
+    private final long nextAfterId;
+    private final boolean hasNext;
+    private final boolean loadFailed;
+
+    private ReservationFirstPageResponse(List<ReservationResponse> reservations,
+                                         long nextAfterId,
+                                         boolean hasNext,
+                                         boolean loadFailed) {
+        this.reservations = reservations;
+        this.nextAfterId = nextAfterId;
+        this.hasNext = hasNext;
+        this.loadFailed = loadFailed;
+    }
+
+    public static ReservationFirstPageResponse from(ReservationSliceResponse slice) {
+        return new ReservationFirstPageResponse(
+                slice.getReservations(),
+                slice.getNextAfterId(),
+                slice.isHasNext(),
+                false
+        );
+    }
+
+    public static ReservationFirstPageResponse failed() {
+        return new ReservationFirstPageResponse(List.of(), 0, true, true);
+    }
+
+    public List<ReservationResponse> getReservations() {
+        return reservations;
+    }
+
+    public long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public boolean isLoadFailed() {
+        return loadFailed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationFirstPageResponse other = (ReservationFirstPageResponse) o;
+        return this.nextAfterId == other.nextAfterId
+                && this.hasNext == other.hasNext
+                && this.loadFailed == other.loadFailed
+                && Objects.equals(this.reservations, other.reservations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservations, nextAfterId, hasNext, loadFailed);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationFirstPageResponse{" +
+                "reservations=" + reservations +
+                ", nextAfterId=" + nextAfterId +
+                ", hasNext=" + hasNext +
+                ", loadFailed=" + loadFailed +
+                '}';
+    }
+}
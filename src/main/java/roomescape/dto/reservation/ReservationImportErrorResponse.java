@@ -0,0 +1,52 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+
+public class ReservationImportErrorResponse {
+
+    private final long line;
+    private final String message;
+
+    private ReservationImportErrorResponse(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public static ReservationImportErrorResponse of(long line, String message) {
+        return new ReservationImportErrorResponse(line, message);
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationImportErrorResponse other = (ReservationImportErrorResponse) o;
+        return this.line == other.line
+                && Objects.equals(this.message, other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(line, message);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationImportErrorResponse{" +
+                "line=" + line +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
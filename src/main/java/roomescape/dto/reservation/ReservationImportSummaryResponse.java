@@ -0,0 +1,32 @@
+package roomescape.dto.reservation;
+
+public class ReservationImportSummaryResponse {
+
+    private final long imported;
+    private final long failed;
+
+    private ReservationImportSummaryResponse(long imported, long failed) {
+        this.imported = imported;
+        this.failed = failed;
+    }
+
+    public static ReservationImportSummaryResponse of(long imported, long failed) {
+        return new ReservationImportSummaryResponse(imported, failed);
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationImportSummaryResponse{" +
+                "imported=" + imported +
+                ", failed=" + failed +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package roomescape.dto.reservation;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ReservationPageResponse {
+
+    private final List<ReservationResponse> reservations;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+
+    private ReservationPageResponse(List<ReservationResponse> reservations, int page, int size, boolean hasNext) {
+        this.reservations = reservations;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public static ReservationPageResponse of(List<ReservationResponse> reservations,
+                                             int page,
+                                             int size,
+                                             boolean hasNext) {
+        return new ReservationPageResponse(reservations, page, size, hasNext);
+    }
+
+    public List<ReservationResponse> getReservations() {
+        return reservations;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationPageResponse other = (ReservationPageResponse) o;
+        return this.page == other.page
+                && this.size == other.size
+                && this.hasNext == other.hasNext
+                && Objects.equals(this.reservations, other.reservations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservations, page, size, hasNext);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationPageResponse{" +
+                "reservations=" + reservations +
+                ", page=" + page +
+                ", size=" + size +
+                ", hasNext=" + hasNext +
+                '}';
+    }
+}
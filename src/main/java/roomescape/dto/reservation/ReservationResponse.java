@@ -50,6 +50,10 @@ public class ReservationResponse {
         return date;
     }
 
+    public ReservationTimeResponse getTime() {
+        return reservationTimeResponse;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
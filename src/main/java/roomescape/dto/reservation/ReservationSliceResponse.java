@@ -0,0 +1,63 @@
+package roomescape.dto.reservation;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ReservationSliceResponse {
+
+    private final List<ReservationResponse> reservations;
+    private final long nextAfterId;
+    private final boolean hasNext;
+
+    private ReservationSliceResponse(List<ReservationResponse> reservations, long nextAfterId, boolean hasNext) {
+        this.reservations = reservations;
+        this.nextAfterId = nextAfterId;
+        this.hasNext = hasNext;
+    }
+
+    public static ReservationSliceResponse of(List<ReservationResponse> reservations,
+                                              long nextAfterId,
+                                              boolean hasNext) {
+        return new ReservationSliceResponse(reservations, nextAfterId, hasNext);
+    }
+
+    public List<ReservationResponse> getReservations() {
+        return reservations;
+    }
+
+    public long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationSliceResponse other = (ReservationSliceResponse) o;
+        return this.nextAfterId == other.nextAfterId
+                && this.hasNext == other.hasNext
+                && Objects.equals(this.reservations, other.reservations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservations, nextAfterId, hasNext);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationSliceResponse{" +
+                "reservations=" + reservations +
+                ", nextAfterId=" + nextAfterId +
+                ", hasNext=" + hasNext +
+                '}';
+    }
+}
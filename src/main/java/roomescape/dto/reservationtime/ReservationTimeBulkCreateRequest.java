@@ -0,0 +1,83 @@
+package roomescape.dto.reservationtime;
+
+import java.util.Objects;
+import roomescape.domain.reservationtime.ReservationTime;
+
+public class ReservationTimeBulkCreateRequest {
+
+    private final String startAt;
+    private final String endAt;
+    private final Integer intervalMinutes;
+    private final Long roomId;
+
+    private ReservationTimeBulkCreateRequest(String startAt, String endAt, Integer intervalMinutes, Long roomId) {
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.intervalMinutes = intervalMinutes;
+        this.roomId = roomId;
+    }
+
+    public static ReservationTimeBulkCreateRequest of(String startAt, String endAt, Integer intervalMinutes) {
+        return new ReservationTimeBulkCreateRequest(startAt, endAt, intervalMinutes, null);
+    }
+
+    public static ReservationTimeBulkCreateRequest of(String startAt,
+                                                      String endAt,
+                                                      Integer intervalMinutes,
+                                                      Long roomId) {
+        return new ReservationTimeBulkCreateRequest(startAt, endAt, intervalMinutes, roomId);
+    }
+
+    public long getRoomIdOrDefault() {
+        if (roomId == null) {
+            return ReservationTime.DEFAULT_ROOM_ID;
+        }
+        return roomId;
+    }
+
+    public String getStartAt() {
+        return startAt;
+    }
+
+    public String getEndAt() {
+        return endAt;
+    }
+
+    public Integer getIntervalMinutes() {
+        return intervalMinutes;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationTimeBulkCreateRequest other = (ReservationTimeBulkCreateRequest) o;
+        return Objects.equals(this.startAt, other.startAt)
+                && Objects.equals(this.endAt, other.endAt)
+                && Objects.equals(this.intervalMinutes, other.intervalMinutes)
+                && Objects.equals(this.roomId, other.roomId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startAt, endAt, intervalMinutes, roomId);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationTimeBulkCreateRequest{" +
+                "startAt='" + startAt + '\'' +
+                ", endAt='" + endAt + '\'' +
+                ", intervalMinutes=" + intervalMinutes +
+                ", roomId=" + roomId +
+                '}';
+    }
+}
@@ -8,27 +8,45 @@ import roomescape.domain.reservationtime.ReservationTime;
 public class ReservationTimeCreateRequest {
 
     private final String startAt;
+    private final Long roomId;
 
     @JsonCreator
-    private ReservationTimeCreateRequest(String startAt) {
+    private ReservationTimeCreateRequest(String startAt, Long roomId) {
         this.startAt = startAt;
+        this.roomId = roomId;
     }
 
     public static ReservationTimeCreateRequest from(String startAt) {
-        return new ReservationTimeCreateRequest(startAt);
+        return new ReservationTimeCreateRequest(startAt, null);
+    }
+
+    public static ReservationTimeCreateRequest of(String startAt, Long roomId) {
+        return new ReservationTimeCreateRequest(startAt, roomId);
     }
 
     public ReservationTime toDomain() {
         return new ReservationTime(
                 null,
+                getRoomIdOrDefault(),
                 ReservationStartAt.from(startAt)
         );
     }
 
+    public long getRoomIdOrDefault() {
+        if (roomId == null) {
+            return ReservationTime.DEFAULT_ROOM_ID;
+        }
+        return roomId;
+    }
+
     public String getStartAt() {
         return startAt;
     }
 
+    public Long getRoomId() {
+        return roomId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -38,18 +56,20 @@ public class ReservationTimeCreateRequest {
             return false;
         }
         ReservationTimeCreateRequest other = (ReservationTimeCreateRequest) o;
-        return Objects.equals(this.startAt, other.startAt);
+        return Objects.equals(this.startAt, other.startAt)
+                && Objects.equals(this.roomId, other.roomId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(startAt);
+        return Objects.hash(startAt, roomId);
     }
 
     @Override
     public String toString() {
         return "ReservationTimeCreateRequestDto{" +
                 "startAt='" + startAt + '\'' +
+                ", roomId=" + roomId +
                 '}';
     }
 }
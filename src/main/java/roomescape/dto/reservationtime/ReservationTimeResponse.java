@@ -7,10 +7,12 @@ import roomescape.domain.reservationtime.ReservationTime;
 public class ReservationTimeResponse {
 
     private final Long id;
+    private final long roomId;
     private final String startAt;
 
-    private ReservationTimeResponse(Long id, String startAt) {
+    private ReservationTimeResponse(Long id, long roomId, String startAt) {
         this.id = id;
+        this.roomId = roomId;
         this.startAt = startAt;
     }
 
@@ -18,18 +20,27 @@ public class ReservationTimeResponse {
         ReservationStartAt reservationStartAt = time.getStartAt();
         return new ReservationTimeResponse(
                 time.getId(),
+                time.getRoomId(),
                 reservationStartAt.toStringTime()
         );
     }
 
     public static ReservationTimeResponse of(Long id, String startAt) {
-        return new ReservationTimeResponse(id, startAt);
+        return new ReservationTimeResponse(id, ReservationTime.DEFAULT_ROOM_ID, startAt);
+    }
+
+    public static ReservationTimeResponse of(Long id, long roomId, String startAt) {
+        return new ReservationTimeResponse(id, roomId, startAt);
     }
 
     public Long getId() {
         return id;
     }
 
+    public long getRoomId() {
+        return roomId;
+    }
+
     public String getStartAt() {
         return startAt;
     }
@@ -44,18 +55,20 @@ public class ReservationTimeResponse {
         }
         ReservationTimeResponse other = (ReservationTimeResponse) o;
         return Objects.equals(this.id, other.id)
+                && this.roomId == other.roomId
                 && Objects.equals(this.startAt, other.startAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, startAt);
+        return Objects.hash(id, roomId, startAt);
     }
 
     @Override
     public String toString() {
         return "TimeDto{" +
                 "id=" + id +
+                ", roomId=" + roomId +
                 ", startAt='" + startAt + '\'' +
                 '}';
     }
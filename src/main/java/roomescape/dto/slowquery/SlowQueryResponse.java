@@ -0,0 +1,63 @@
+package roomescape.dto.slowquery;
+
+import java.util.List;
+import roomescape.dao.slowquery.SlowQuery;
+
+public class SlowQueryResponse {
+
+    private final String sql;
+    private final List<String> parameters;
+    private final int rowCount;
+    private final long durationMillis;
+    private final String plan;
+    private final String executedAt;
+
+    private SlowQueryResponse(String sql,
+                              List<String> parameters,
+                              int rowCount,
+                              long durationMillis,
+                              String plan,
+                              String executedAt) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.rowCount = rowCount;
+        this.durationMillis = durationMillis;
+        this.plan = plan;
+        this.executedAt = executedAt;
+    }
+
+    public static SlowQueryResponse from(SlowQuery slowQuery) {
+        return new SlowQueryResponse(
+                slowQuery.getSql(),
+                slowQuery.getParameters(),
+                slowQuery.getRowCount(),
+                slowQuery.getDurationMillis(),
+                slowQuery.getPlan(),
+                slowQuery.getExecutedAt().toString()
+        );
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    public String getExecutedAt() {
+        return executedAt;
+    }
+}
@@ -0,0 +1,54 @@
+package roomescape.dto.snapshot;
+
+import roomescape.dao.snapshot.SnapshotCounts;
+
+public class SnapshotResponse {
+
+    private final String fileName;
+    private final long reservationTimes;
+    private final long reservations;
+    private final long sizeBytes;
+    private final long durationMillis;
+
+    private SnapshotResponse(String fileName,
+                             long reservationTimes,
+                             long reservations,
+                             long sizeBytes,
+                             long durationMillis) {
+        this.fileName = fileName;
+        this.reservationTimes = reservationTimes;
+        this.reservations = reservations;
+        this.sizeBytes = sizeBytes;
+        this.durationMillis = durationMillis;
+    }
+
+    public static SnapshotResponse of(String fileName, SnapshotCounts counts, long sizeBytes, long durationMillis) {
+        return new SnapshotResponse(
+                fileName,
+                counts.reservationTimes(),
+                counts.reservations(),
+                sizeBytes,
+                durationMillis
+        );
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getReservationTimes() {
+        return reservationTimes;
+    }
+
+    public long getReservations() {
+        return reservations;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+}
@@ -0,0 +1,8 @@
+package roomescape.exception;
+
+public class ConflictException extends RoomescapeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package roomescape.exception;
+
+public class InvalidInputException extends RoomescapeException {
+
+    public InvalidInputException(String message) {
+        super(message);
+    }
+}
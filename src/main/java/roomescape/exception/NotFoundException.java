@@ -0,0 +1,8 @@
+package roomescape.exception;
+
+public class NotFoundException extends RoomescapeException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
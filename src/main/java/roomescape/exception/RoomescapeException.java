@@ -0,0 +1,8 @@
+package roomescape.exception;
+
+public abstract class RoomescapeException extends RuntimeException {
+
+    protected RoomescapeException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,46 @@
+package roomescape.service;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import roomescape.audit.AuditLog;
+import roomescape.dto.audit.AuditRecordResponse;
+import roomescape.exception.InvalidInputException;
+
+@Service
+public class AuditLogService {
+
+    private static final int MAX_LIMIT = 10000;
+
+    private final AuditLog auditLog;
+
+    public AuditLogService(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    public List<AuditRecordResponse> find(String from, String to, int limit) {
+        Instant start = parseInstant(from);
+        Instant end = parseInstant(to);
+        if (start.isAfter(end)) {
+            throw new InvalidInputException("조회 시작 시각은 종료 시각보다 늦을 수 없습니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidInputException("감사 로그 조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        return auditLog.find(start.toEpochMilli(), end.toEpochMilli(), limit).stream()
+                .map(AuditRecordResponse::from)
+                .toList();
+    }
+
+    private Instant parseInstant(String value) {
+        if (value == null) {
+            throw new InvalidInputException("조회 시각은 비어있을 수 없습니다.");
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidInputException("조회 시각 형식은 ISO-8601(예: 2024-05-01T00:00:00Z) 이어야 합니다.");
+        }
+    }
+}
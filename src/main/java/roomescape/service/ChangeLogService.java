@@ -0,0 +1,110 @@
+package roomescape.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.dao.ChangeLogDao;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.dto.changelog.ChangeLogResponse;
+import roomescape.dto.changelog.ChangesResponse;
+import roomescape.exception.InvalidInputException;
+
+@Service
+public class ChangeLogService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ChangeLogDao changeLogDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardSelector shardSelector;
+    private final Duration retention;
+    private final Clock clock;
+
+    public ChangeLogService(ChangeLogDao changeLogDao,
+                            TransactionTemplate transactionTemplate,
+                            ShardSelector shardSelector,
+                            @Value("${roomescape.change-log.retention-hours:24}") long retentionHours) {
+        this.changeLogDao = changeLogDao;
+        this.transactionTemplate = transactionTemplate;
+        this.shardSelector = shardSelector;
+        this.retention = Duration.ofHours(retentionHours);
+        this.clock = Clock.systemUTC();
+    }
+
+    public ChangesResponse findChanges(long since, int limit) {
+        return findChanges(0, since, limit);
+    }
+
+    public ChangesResponse findChanges(int shard, long since, int limit) {
+        validateShard(shard);
+        validateSince(since);
+        validateLimit(limit);
+        return ShardRoute.on(shard, () -> findShardChanges(since, limit));
+    }
+
+    private ChangesResponse findShardChanges(long since, int limit) {
+        long compactedThrough = changeLogDao.findCompactedThrough();
+        if (since < compactedThrough) {
+            return ChangesResponse.resyncRequired(compactedThrough);
+        }
+        List<ChangeLog> changeLogs = changeLogDao.findAfter(since, limit + 1);
+        boolean hasMore = changeLogs.size() > limit;
+        List<ChangeLogResponse> responses = changeLogs.stream()
+                .limit(limit)
+                .map(ChangeLogResponse::from)
+                .toList();
+        long lastSeq = responses.isEmpty() ? since : responses.get(responses.size() - 1).getSeq();
+        return ChangesResponse.of(responses, lastSeq, hasMore);
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.change-log.compaction-interval-millis:600000}")
+    public void compact() {
+        compactBefore(Instant.now(clock).minus(retention));
+    }
+
+    public int compactBefore(Instant cutoff) {
+        int deleted = 0;
+        for (int shard = 0; shard < shardSelector.count(); shard++) {
+            deleted += ShardRoute.on(shard, () -> compactShardBefore(cutoff));
+        }
+        return deleted;
+    }
+
+    private int compactShardBefore(Instant cutoff) {
+        return transactionTemplate.execute(status -> {
+            Optional<Long> lastSeq = changeLogDao.findLastSeqBefore(cutoff);
+            if (lastSeq.isEmpty()) {
+                return 0;
+            }
+            int deleted = changeLogDao.deleteThrough(lastSeq.get());
+            changeLogDao.updateCompactedThrough(lastSeq.get());
+            return deleted;
+        });
+    }
+
+    private void validateShard(int shard) {
+        if (shard < 0 || shard >= shardSelector.count()) {
+            throw new InvalidInputException("샤드 번호는 0 이상 " + shardSelector.count() + " 미만이어야 합니다.");
+        }
+    }
+
+    private void validateSince(long since) {
+        if (since < 0) {
+            throw new InvalidInputException("변경 이력 시작 번호는 0 이상이어야 합니다.");
+        }
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidInputException("변경 이력 조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+    }
+}
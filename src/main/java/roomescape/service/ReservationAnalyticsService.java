@@ -0,0 +1,239 @@
+package roomescape.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Service;
+import roomescape.dao.ChangeLogDao;
+import roomescape.dao.ReservationDao;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.analytics.ReservationColumns;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.domain.changelog.ChangeOperation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.dto.analytics.ColumnStoreStatsResponse;
+import roomescape.dto.analytics.DailyCountResponse;
+import roomescape.dto.analytics.ReservationCountResponse;
+import roomescape.dto.analytics.SlotCountResponse;
+import roomescape.exception.InvalidInputException;
+
+@Service
+public class ReservationAnalyticsService {
+
+    private static final int CHANGE_BATCH_SIZE = 1000;
+    private static final int MAX_DAILY_DAYS = 3660;
+
+    private final ReservationDao reservationDao;
+    private final ChangeLogDao changeLogDao;
+    private final ShardSelector shardSelector;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object catchUpLock = new Object();
+    private volatile ReservationColumns columns;
+    private volatile long[] cursors;
+
+    public ReservationAnalyticsService(ReservationDao reservationDao,
+                                       ChangeLogDao changeLogDao,
+                                       ShardSelector shardSelector) {
+        this.reservationDao = reservationDao;
+        this.changeLogDao = changeLogDao;
+        this.shardSelector = shardSelector;
+    }
+
+    public List<DailyCountResponse> countByDay(String from, String to, String name) {
+        ReservationDate start = ReservationDate.from(from);
+        ReservationDate end = ReservationDate.from(to);
+        validateRange(start, end);
+        if (start.daysUntil(end) >= MAX_DAILY_DAYS) {
+            throw new InvalidInputException("일별 집계 기간은 " + MAX_DAILY_DAYS + "일 이하여야 합니다.");
+        }
+        int startDay = start.toEpochDay();
+        int[] counts = query(columns -> columns.countByDay(startDay, end.toEpochDay(), name));
+        return IntStream.range(0, counts.length)
+                .mapToObj(day -> DailyCountResponse.of(
+                        ReservationDate.ofEpochDay(startDay + day).toStringDate(),
+                        counts[day]
+                ))
+                .toList();
+    }
+
+    public List<SlotCountResponse> countBySlot(String from, String to) {
+        ReservationDate start = ReservationDate.from(from);
+        ReservationDate end = ReservationDate.from(to);
+        validateRange(start, end);
+        int[] counts = query(columns -> columns.countByMinute(start.toEpochDay(), end.toEpochDay()));
+        List<SlotCountResponse> responses = new ArrayList<>();
+        for (int minute = 0; minute < counts.length; minute++) {
+            if (counts[minute] > 0) {
+                String startAt = ReservationStartAt.ofMinuteOfDay(minute).toStringTime();
+                responses.add(SlotCountResponse.of(startAt, counts[minute]));
+            }
+        }
+        return responses;
+    }
+
+    public ReservationCountResponse count(String from,
+                                          String to,
+                                          String startFrom,
+                                          String startTo,
+                                          Long timeId,
+                                          String name) {
+        ReservationDate start = ReservationDate.from(from);
+        ReservationDate end = ReservationDate.from(to);
+        validateRange(start, end);
+        int fromMinute = startFrom == null ? 0 : ReservationStartAt.from(startFrom).getMinuteOfDay();
+        int toMinute = startTo == null
+                ? ReservationColumns.MINUTES_PER_DAY - 1
+                : ReservationStartAt.from(startTo).getMinuteOfDay();
+        long count = query(columns -> columns.count(
+                start.toEpochDay(),
+                end.toEpochDay(),
+                fromMinute,
+                toMinute,
+                timeId,
+                name
+        ));
+        return ReservationCountResponse.from(count);
+    }
+
+    public ColumnStoreStatsResponse getStats() {
+        return query(ColumnStoreStatsResponse::from);
+    }
+
+    private <T> T query(Function<ReservationColumns, T> query) {
+        DataSourceRoute.primary(this::catchUpIfBehind);
+        lock.readLock().lock();
+        try {
+            return query.apply(columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void catchUpIfBehind() {
+        long[] heads = findHeads();
+        if (!isBehind(heads)) {
+            return;
+        }
+        synchronized (catchUpLock) {
+            if (isBehind(heads)) {
+                catchUp(heads);
+            }
+        }
+    }
+
+    private long[] findHeads() {
+        long[] heads = new long[shardSelector.count()];
+        for (int shard = 0; shard < heads.length; shard++) {
+            heads[shard] = ShardRoute.on(shard, changeLogDao::findLastSeq);
+        }
+        return heads;
+    }
+
+    private boolean isBehind(long[] heads) {
+        if (columns == null) {
+            return true;
+        }
+        long[] applied = cursors;
+        for (int shard = 0; shard < heads.length; shard++) {
+            if (heads[shard] > applied[shard]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void catchUp(long[] heads) {
+        if (columns == null) {
+            rebuild();
+            return;
+        }
+        long[] advanced = cursors.clone();
+        List<ChangeLog> pending = new ArrayList<>();
+        for (int shard = 0; shard < heads.length; shard++) {
+            if (heads[shard] <= advanced[shard]) {
+                continue;
+            }
+            Optional<List<ChangeLog>> changeLogs = findChanges(shard, advanced[shard]);
+            if (changeLogs.isEmpty()) {
+                rebuild();
+                return;
+            }
+            for (ChangeLog changeLog : changeLogs.get()) {
+                pending.add(changeLog);
+                advanced[shard] = changeLog.getSeq();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach(this::apply);
+            cursors = advanced;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuild() {
+        ReservationColumns rebuilt = new ReservationColumns();
+        long[] rebuiltCursors = new long[shardSelector.count()];
+        for (int shard = 0; shard < rebuiltCursors.length; shard++) {
+            rebuiltCursors[shard] = ShardRoute.on(shard, changeLogDao::findLastSeq);
+            reservationDao.loadColumns(shard, rebuilt);
+        }
+        lock.writeLock().lock();
+        try {
+            columns = rebuilt;
+            cursors = rebuiltCursors;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Optional<List<ChangeLog>> findChanges(int shard, long cursor) {
+        return ShardRoute.on(shard, () -> {
+            if (cursor < changeLogDao.findCompactedThrough()) {
+                return Optional.empty();
+            }
+            List<ChangeLog> changeLogs = new ArrayList<>();
+            List<ChangeLog> batch;
+            long after = cursor;
+            do {
+                batch = changeLogDao.findAfter(after, CHANGE_BATCH_SIZE);
+                changeLogs.addAll(batch);
+                if (!batch.isEmpty()) {
+                    after = batch.get(batch.size() - 1).getSeq();
+                }
+            } while (batch.size() == CHANGE_BATCH_SIZE);
+            return Optional.of(changeLogs);
+        });
+    }
+
+    private void apply(ChangeLog changeLog) {
+        if (changeLog.getEntityType() != ChangeEntityType.RESERVATION) {
+            return;
+        }
+        if (changeLog.getOperation() == ChangeOperation.DELETED) {
+            columns.remove(changeLog.getEntityId());
+            return;
+        }
+        columns.append(
+                changeLog.getEntityId(),
+                changeLog.getName(),
+                ReservationDate.from(changeLog.getDate()).toEpochDay(),
+                ReservationStartAt.from(changeLog.getStartAt()).getMinuteOfDay(),
+                changeLog.getTimeId()
+        );
+    }
+
+    private void validateRange(ReservationDate start, ReservationDate end) {
+        if (start.isAfter(end)) {
+            throw new InvalidInputException("조회 시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+    }
+}
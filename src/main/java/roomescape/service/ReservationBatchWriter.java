@@ -0,0 +1,47 @@
+package roomescape.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.dao.ChangeLogDao;
+import roomescape.dao.ReservationDao;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.domain.reservation.Reservation;
+
+@Component
+class ReservationBatchWriter {
+
+    private final ReservationDao reservationDao;
+    private final ChangeLogDao changeLogDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardSelector shardSelector;
+
+    ReservationBatchWriter(ReservationDao reservationDao,
+                           ChangeLogDao changeLogDao,
+                           TransactionTemplate transactionTemplate,
+                           ShardSelector shardSelector) {
+        this.reservationDao = reservationDao;
+        this.changeLogDao = changeLogDao;
+        this.transactionTemplate = transactionTemplate;
+        this.shardSelector = shardSelector;
+    }
+
+    List<Long> addAll(List<Reservation> reservations) {
+        return shardSelector.onRoom(
+                reservations.get(0).getRoomId(),
+                () -> transactionTemplate.execute(status -> addWithChangeLogs(reservations))
+        );
+    }
+
+    private List<Long> addWithChangeLogs(List<Reservation> reservations) {
+        List<Long> ids = reservationDao.addAll(reservations);
+        List<ChangeLog> changeLogs = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            changeLogs.add(ChangeLog.reservationCreated(ids.get(i), reservations.get(i)));
+        }
+        changeLogDao.appendAll(changeLogs);
+        return ids;
+    }
+}
@@ -0,0 +1,198 @@
+package roomescape.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import roomescape.audit.AuditLog;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeOperation;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.ReservationImportErrorResponse;
+import roomescape.dto.reservation.ReservationImportSummaryResponse;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.RoomescapeException;
+
+@Service
+public class ReservationImportService {
+
+    private static final String HEADER = "name,date,timeId";
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int FIELD_COUNT = 3;
+
+    private final ReservationTimeDao reservationTimeDao;
+    private final ReservationBatchWriter batchWriter;
+    private final ReservationService reservationService;
+    private final AuditLog auditLog;
+    private final ShardSelector shardSelector;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public ReservationImportService(ReservationTimeDao reservationTimeDao,
+                                    ReservationBatchWriter batchWriter,
+                                    ReservationService reservationService,
+                                    AuditLog auditLog,
+                                    ShardSelector shardSelector,
+                                    ObjectMapper objectMapper,
+                                    @Value("${roomescape.reservation-import.batch-size:500}") int batchSize) {
+        this.reservationTimeDao = reservationTimeDao;
+        this.batchWriter = batchWriter;
+        this.reservationService = reservationService;
+        this.auditLog = auditLog;
+        this.shardSelector = shardSelector;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public void importCsv(InputStream csv, OutputStream report) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(report, StandardCharsets.UTF_8));
+        new ImportRun(writer).execute(reader);
+        writer.flush();
+    }
+
+    private class ImportRun {
+
+        private final Writer writer;
+        private final Map<Long, Optional<ReservationTime>> reservationTimes = new HashMap<>();
+        private final Map<Integer, List<ImportLine>> pendingByShard = new HashMap<>();
+        private long imported;
+        private long failed;
+
+        private ImportRun(Writer writer) {
+            this.writer = writer;
+        }
+
+        private void execute(BufferedReader reader) throws IOException {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1) {
+                    line = stripByteOrderMark(line);
+                    if (line.trim().equalsIgnoreCase(HEADER)) {
+                        continue;
+                    }
+                }
+                if (!line.isBlank()) {
+                    accept(lineNumber, line);
+                }
+            }
+            for (List<ImportLine> pending : pendingByShard.values()) {
+                flush(pending);
+            }
+            writeLine(ReservationImportSummaryResponse.of(imported, failed));
+        }
+
+        private void accept(long lineNumber, String line) throws IOException {
+            Reservation reservation;
+            try {
+                reservation = parse(line);
+            } catch (RoomescapeException e) {
+                writeError(lineNumber, e.getMessage());
+                return;
+            }
+            int shard = shardSelector.ofRoom(reservation.getRoomId());
+            List<ImportLine> pending = pendingByShard.computeIfAbsent(shard, key -> new ArrayList<>(batchSize));
+            pending.add(new ImportLine(lineNumber, reservation));
+            if (pending.size() >= batchSize) {
+                flush(pending);
+            }
+        }
+
+        private Reservation parse(String line) {
+            String[] fields = line.split(",", -1);
+            if (fields.length != FIELD_COUNT) {
+                throw new InvalidInputException("각 줄은 " + HEADER + " 세 개의 값으로 이루어져야 합니다.");
+            }
+            ReservationName name = new ReservationName(fields[0].trim());
+            ReservationDate date = ReservationDate.from(fields[1].trim());
+            ReservationTime reservationTime = getReservationTime(fields[2].trim());
+            return new Reservation(null, name, date, reservationTime);
+        }
+
+        private ReservationTime getReservationTime(String timeId) {
+            long id;
+            try {
+                id = Long.parseLong(timeId);
+            } catch (NumberFormatException e) {
+                throw new InvalidInputException("예약 시간 아이디는 숫자여야 합니다.");
+            }
+            return reservationTimes.computeIfAbsent(id, reservationTimeDao::findById)
+                    .orElseThrow(() -> new InvalidInputException("예약 시간 아이디에 해당하는 예약 시간이 존재하지 않습니다."));
+        }
+
+        private void flush(List<ImportLine> pending) throws IOException {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                insert(pending);
+                imported += pending.size();
+            } catch (DataAccessException e) {
+                insertOneByOne(pending);
+            }
+            pending.clear();
+            writer.flush();
+        }
+
+        private void insertOneByOne(List<ImportLine> pending) throws IOException {
+            for (ImportLine importLine : pending) {
+                try {
+                    insert(List.of(importLine));
+                    imported++;
+                } catch (DataAccessException e) {
+                    writeError(importLine.lineNumber(), "예약을 저장하지 못했습니다.");
+                }
+            }
+        }
+
+        private void insert(List<ImportLine> lines) {
+            List<Reservation> reservations = lines.stream()
+                    .map(ImportLine::reservation)
+                    .toList();
+            List<Long> ids = batchWriter.addAll(reservations);
+            reservationService.invalidateFindAll();
+            ids.forEach(id -> auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, id));
+        }
+
+        private void writeError(long lineNumber, String message) throws IOException {
+            failed++;
+            writeLine(ReservationImportErrorResponse.of(lineNumber, message));
+        }
+
+        private void writeLine(Object value) throws IOException {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+        }
+
+        private String stripByteOrderMark(String line) {
+            if (!line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                return line.substring(1);
+            }
+            return line;
+        }
+    }
+
+    private record ImportLine(long lineNumber, Reservation reservation) {
+    }
+}
@@ -1,62 +1,253 @@
 package roomescape.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.audit.AuditLog;
+import roomescape.dao.ChangeLogDao;
 import roomescape.dao.ReservationDao;
 import roomescape.dao.ReservationTimeDao;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.domain.changelog.ChangeOperation;
 import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.SlotOccupancy;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.ReservationCalendarResponse;
 import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationPageResponse;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSliceResponse;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.NotFoundException;
+import roomescape.timing.ServerTiming;
 
 @Service
 public class ReservationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CALENDAR_DAYS = 62;
+
     private final ReservationDao reservationDao;
     private final ReservationTimeDao reservationTimeDao;
+    private final ChangeLogDao changeLogDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardSelector shardSelector;
+    private final Optional<ReservationWritePipeline> writePipeline;
+    private final AuditLog auditLog;
+    private final long readYourWritesNanos;
+    private final SingleFlight<List<ReservationResponse>> findAllFlight = new SingleFlight<>();
 
-    public ReservationService(ReservationDao reservationDao, ReservationTimeDao reservationTimeDao) {
+    public ReservationService(ReservationDao reservationDao,
+                              ReservationTimeDao reservationTimeDao,
+                              ChangeLogDao changeLogDao,
+                              TransactionTemplate transactionTemplate,
+                              ShardSelector shardSelector,
+                              Optional<ReservationWritePipeline> writePipeline,
+                              AuditLog auditLog,
+                              @Value("${roomescape.datasource.routing.read-your-writes-millis:1000}")
+                              long readYourWritesMillis) {
         this.reservationDao = reservationDao;
         this.reservationTimeDao = reservationTimeDao;
+        this.changeLogDao = changeLogDao;
+        this.transactionTemplate = transactionTemplate;
+        this.shardSelector = shardSelector;
+        this.writePipeline = writePipeline;
+        this.auditLog = auditLog;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
     }
 
     public List<ReservationResponse> findAll() {
-        List<Reservation> reservations = reservationDao.findAll();
-        return reservations.stream()
+        return findAllFlight.execute(() -> {
+            List<Reservation> reservations = loadAll();
+            return ServerTiming.measureMapping(() -> reservations.stream()
+                    .map(ReservationResponse::from)
+                    .toList());
+        });
+    }
+
+    public void invalidateFindAll() {
+        findAllFlight.invalidate();
+    }
+
+    public ReservationSliceResponse findSlice(long afterId, int size) {
+        validateCursor(afterId, size);
+        List<Reservation> reservations = reservationDao.findAfterId(afterId, size + 1);
+        boolean hasNext = reservations.size() > size;
+        List<ReservationResponse> responses = ServerTiming.measureMapping(() -> reservations.stream()
+                .limit(size)
                 .map(ReservationResponse::from)
+                .toList());
+        long nextAfterId = responses.isEmpty() ? afterId : responses.get(responses.size() - 1).getId();
+        return ReservationSliceResponse.of(responses, nextAfterId, hasNext);
+    }
+
+    public ReservationPageResponse searchByName(String name, int page, int size) {
+        validateSearchName(name);
+        validatePage(page, size);
+        List<Reservation> reservations = reservationDao.findByNamePrefix(name, size + 1, (long) page * size);
+        boolean hasNext = reservations.size() > size;
+        List<ReservationResponse> responses = ServerTiming.measureMapping(() -> reservations.stream()
+                .limit(size)
+                .map(ReservationResponse::from)
+                .toList());
+        return ReservationPageResponse.of(responses, page, size, hasNext);
+    }
+
+    public ReservationCalendarResponse getCalendar(String from, String to) {
+        ReservationDate start = ReservationDate.from(from);
+        ReservationDate end = ReservationDate.from(to);
+        validateCalendarRange(start, end);
+        List<SlotOccupancy> occupancies = reservationDao.findSlotOccupancies(start, end);
+        List<String> dates = start.rangeClosedTo(end).stream()
+                .map(ReservationDate::toStringDate)
                 .toList();
+        Map<String, Integer> dateRows = new HashMap<>();
+        for (int row = 0; row < dates.size(); row++) {
+            dateRows.put(dates.get(row), row);
+        }
+        List<ReservationTimeResponse> times = new ArrayList<>();
+        Map<Long, Integer> timeColumns = new HashMap<>();
+        for (SlotOccupancy occupancy : occupancies) {
+            timeColumns.computeIfAbsent(occupancy.getReservationTime().getId(), timeId -> {
+                times.add(ReservationTimeResponse.from(occupancy.getReservationTime()));
+                return times.size() - 1;
+            });
+        }
+        int[][] counts = new int[dates.size()][times.size()];
+        for (SlotOccupancy occupancy : occupancies) {
+            if (occupancy.hasReservation()) {
+                int row = dateRows.get(occupancy.getDate().toStringDate());
+                int column = timeColumns.get(occupancy.getReservationTime().getId());
+                counts[row][column] = occupancy.getCount();
+            }
+        }
+        return ReservationCalendarResponse.of(dates, times, counts);
     }
 
     public ReservationResponse add(ReservationCreateRequest request) {
-        validateNotExistReservationTime(request.getTimeId());
-        ReservationTime reservationTime = reservationTimeDao.findById(request.getTimeId());
+        ReservationResponse response = DataSourceRoute.primary(() -> addReservation(request));
+        findAllFlight.invalidate();
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, response.getId());
+        return response;
+    }
+
+    private ReservationResponse addReservation(ReservationCreateRequest request) {
+        ReservationTime reservationTime = getReservationTime(request.getTimeId());
         Reservation reservation = request.toDomain(reservationTime);
-        long id = reservationDao.add(reservation);
-        Reservation result = reservationDao.findById(id);
+        if (writePipeline.isPresent()) {
+            return join(addAsync(writePipeline.get(), reservation));
+        }
+        long id = shardSelector.onRoom(reservation.getRoomId(), () -> transactionTemplate.execute(status -> {
+            long createdId = reservationDao.add(reservation);
+            changeLogDao.append(ChangeLog.reservationCreated(createdId, reservation));
+            return createdId;
+        }));
+        Reservation result = reservationDao.findById(id).orElseThrow();
         return ReservationResponse.from(result);
     }
 
+    private CompletableFuture<ReservationResponse> addAsync(ReservationWritePipeline pipeline,
+                                                            Reservation reservation) {
+        return pipeline.submit(reservation)
+                .thenApply(id -> ReservationResponse.from(new Reservation(
+                        id,
+                        reservation.getName(),
+                        reservation.getDate(),
+                        reservation.getReservationTime()
+                )));
+    }
+
+    private ReservationResponse join(CompletableFuture<ReservationResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     public void delete(Long id) {
         validateNull(id);
-        validateNotExistReservation(id);
-        reservationDao.delete(id);
+        int deleted = shardSelector.onShardOf(id, () -> transactionTemplate.execute(status -> {
+            int deletedCount = reservationDao.delete(id);
+            if (deletedCount > 0) {
+                changeLogDao.append(ChangeLog.reservationDeleted(id));
+            }
+            return deletedCount;
+        }));
+        if (deleted == 0) {
+            throw new NotFoundException("해당 아이디를 가진 예약이 존재하지 않습니다.");
+        }
+        findAllFlight.invalidate();
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.DELETED, id);
+    }
+
+    private List<Reservation> loadAll() {
+        if (findAllFlight.invalidatedWithin(readYourWritesNanos)) {
+            return DataSourceRoute.primary(reservationDao::findAll);
+        }
+        return reservationDao.findAll();
     }
 
     private void validateNull(Long id) {
         if (id == null) {
-            throw new IllegalArgumentException("예약 아이디는 비어있을 수 없습니다.");
+            throw new InvalidInputException("예약 아이디는 비어있을 수 없습니다.");
+        }
+    }
+
+    private void validateSearchName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new InvalidInputException("검색할 이름은 비어있을 수 없습니다.");
         }
     }
 
-    private void validateNotExistReservation(Long id) {
-        if (!reservationDao.exist(id)) {
-            throw new IllegalArgumentException("해당 아이디를 가진 예약이 존재하지 않습니다.");
+    private void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new InvalidInputException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    private void validateCursor(long afterId, int size) {
+        if (afterId < 0) {
+            throw new InvalidInputException("조회 시작 아이디는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    private void validateCalendarRange(ReservationDate start, ReservationDate end) {
+        if (start.isAfter(end)) {
+            throw new InvalidInputException("조회 시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+        if (start.daysUntil(end) >= MAX_CALENDAR_DAYS) {
+            throw new InvalidInputException("한 번에 조회할 수 있는 기간은 " + MAX_CALENDAR_DAYS + "일 이하입니다.");
         }
     }
 
-    private void validateNotExistReservationTime(Long id) {
-        if (!reservationTimeDao.exist(id)) {
-            throw new IllegalArgumentException("예약 시간 아이디에 해당하는 예약 시간이 존재하지 않습니다.");
+    private ReservationTime getReservationTime(Long timeId) {
+        if (timeId == null) {
+            throw new InvalidInputException("예약 시간 아이디는 비어있을 수 없습니다.");
         }
+        return reservationTimeDao.findById(timeId)
+                .orElseThrow(() -> new InvalidInputException("예약 시간 아이디에 해당하는 예약 시간이 존재하지 않습니다."));
     }
 }
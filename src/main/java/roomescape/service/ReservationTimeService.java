@@ -1,50 +1,205 @@
 package roomescape.service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.audit.AuditLog;
+import roomescape.dao.ChangeLogDao;
 import roomescape.dao.ReservationTimeDao;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.domain.changelog.ChangeOperation;
+import roomescape.domain.reservationtime.ReservationStartAt;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservationtime.ReservationTimeBulkCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.exception.ConflictException;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.NotFoundException;
+import roomescape.timing.ServerTiming;
 
 @Service
 public class ReservationTimeService {
 
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MAX_BULK_INSERT_ATTEMPTS = 3;
+
     private final ReservationTimeDao reservationTimeDao;
+    private final ChangeLogDao changeLogDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardSelector shardSelector;
+    private final AuditLog auditLog;
+    private final long readYourWritesNanos;
+    private final SingleFlight<List<ReservationTimeResponse>> findAllFlight = new SingleFlight<>();
 
-    public ReservationTimeService(ReservationTimeDao reservationTimeDao) {
+    public ReservationTimeService(ReservationTimeDao reservationTimeDao,
+                                  ChangeLogDao changeLogDao,
+                                  TransactionTemplate transactionTemplate,
+                                  ShardSelector shardSelector,
+                                  AuditLog auditLog,
+                                  @Value("${roomescape.datasource.routing.read-your-writes-millis:1000}")
+                                  long readYourWritesMillis) {
         this.reservationTimeDao = reservationTimeDao;
+        this.changeLogDao = changeLogDao;
+        this.transactionTemplate = transactionTemplate;
+        this.shardSelector = shardSelector;
+        this.auditLog = auditLog;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
     }
 
     public List<ReservationTimeResponse> findAll() {
-        List<ReservationTime> allReservationTimes = reservationTimeDao.findAll();
-        return allReservationTimes.stream()
-                .map(ReservationTimeResponse::from)
-                .toList();
+        return findAllFlight.execute(() -> {
+            List<ReservationTime> allReservationTimes = loadAll();
+            return ServerTiming.measureMapping(() -> allReservationTimes.stream()
+                    .map(ReservationTimeResponse::from)
+                    .toList());
+        });
     }
 
     public ReservationTimeResponse add(ReservationTimeCreateRequest request) {
         ReservationTime reservationTime = request.toDomain();
-        long id = reservationTimeDao.add(reservationTime);
-        ReservationTime result = reservationTimeDao.findById(id);
-        return ReservationTimeResponse.from(result);
+        return DataSourceRoute.primary(() -> {
+            long id = insertReservationTime(reservationTime);
+            findAllFlight.invalidate();
+            auditLog.record(ChangeEntityType.RESERVATION_TIME, ChangeOperation.CREATED, id);
+            ReservationTime result = reservationTimeDao.findById(id).orElseThrow();
+            return ReservationTimeResponse.from(result);
+        });
+    }
+
+    public List<ReservationTimeResponse> addAll(ReservationTimeBulkCreateRequest request) {
+        ReservationStartAt start = ReservationStartAt.from(request.getStartAt());
+        ReservationStartAt end = ReservationStartAt.from(request.getEndAt());
+        validateInterval(request.getIntervalMinutes());
+        validateRange(start, end);
+        int interval = request.getIntervalMinutes();
+        long roomId = request.getRoomIdOrDefault();
+        return DataSourceRoute.primary(() -> {
+            List<ReservationTime> created = insertMissingTimes(roomId, start, end, interval);
+            if (created.isEmpty()) {
+                return List.of();
+            }
+            findAllFlight.invalidate();
+            created.forEach(time -> auditLog.record(
+                    ChangeEntityType.RESERVATION_TIME,
+                    ChangeOperation.CREATED,
+                    time.getId()
+            ));
+            return created.stream()
+                    .map(ReservationTimeResponse::from)
+                    .toList();
+        });
     }
 
     public void delete(Long id) {
         validateNull(id);
-        validateNotExist(id);
-        reservationTimeDao.delete(id);
+        if (deleteReservationTime(id) == 0) {
+            throw new NotFoundException("해당 아이디를 가진 예약 시간이 존재하지 않습니다.");
+        }
+        findAllFlight.invalidate();
+        auditLog.record(ChangeEntityType.RESERVATION_TIME, ChangeOperation.DELETED, id);
     }
 
-    private void validateNull(Long id) {
-        if (id == null) {
-            throw new IllegalArgumentException("예약 시간 아이디는 비어있을 수 없습니다.");
+    private List<ReservationTime> loadAll() {
+        if (findAllFlight.invalidatedWithin(readYourWritesNanos)) {
+            return DataSourceRoute.primary(reservationTimeDao::findAll);
         }
+        return reservationTimeDao.findAll();
     }
 
-    private void validateNotExist(Long id) {
-        if (!reservationTimeDao.exist(id)) {
-            throw new IllegalArgumentException("해당 아이디를 가진 예약 시간이 존재하지 않습니다.");
+    private long insertReservationTime(ReservationTime reservationTime) {
+        try {
+            return shardSelector.onRoom(reservationTime.getRoomId(), () -> transactionTemplate.execute(status -> {
+                long createdId = reservationTimeDao.add(reservationTime);
+                changeLogDao.append(ChangeLog.reservationTimeCreated(createdId, reservationTime));
+                return createdId;
+            }));
+        } catch (DuplicateKeyException e) {
+            throw new ConflictException("해당 방에 이미 같은 예약 시간이 존재합니다.");
+        }
+    }
+
+    private List<ReservationTime> insertMissingTimes(long roomId,
+                                                     ReservationStartAt start,
+                                                     ReservationStartAt end,
+                                                     int interval) {
+        for (int attempt = 1; ; attempt++) {
+            List<ReservationTime> newTimes = findMissingTimes(roomId, start, end, interval);
+            if (newTimes.isEmpty()) {
+                return List.of();
+            }
+            try {
+                return shardSelector.onRoom(roomId, () -> transactionTemplate.execute(status -> {
+                    List<Long> ids = reservationTimeDao.addAll(newTimes);
+                    List<ReservationTime> createdTimes = IntStream.range(0, newTimes.size())
+                            .mapToObj(i -> new ReservationTime(ids.get(i), roomId, newTimes.get(i).getStartAt()))
+                            .toList();
+                    changeLogDao.appendAll(createdTimes.stream()
+                            .map(time -> ChangeLog.reservationTimeCreated(time.getId(), time))
+                            .toList());
+                    return createdTimes;
+                }));
+            } catch (DuplicateKeyException e) {
+                if (attempt == MAX_BULK_INSERT_ATTEMPTS) {
+                    throw new ConflictException("동시에 추가된 예약 시간과 겹쳐 일괄 추가하지 못했습니다. 다시 시도해 주세요.");
+                }
+            }
+        }
+    }
+
+    private List<ReservationTime> findMissingTimes(long roomId,
+                                                   ReservationStartAt start,
+                                                   ReservationStartAt end,
+                                                   int interval) {
+        Set<Integer> existingMinutes = reservationTimeDao.findByRoomId(roomId).stream()
+                .map(reservationTime -> reservationTime.getStartAt().getMinuteOfDay())
+                .collect(Collectors.toSet());
+        return IntStream
+                .iterate(start.getMinuteOfDay(), minute -> minute <= end.getMinuteOfDay(), minute -> minute + interval)
+                .filter(minute -> !existingMinutes.contains(minute))
+                .mapToObj(minute -> new ReservationTime(null, roomId, ReservationStartAt.ofMinuteOfDay(minute)))
+                .toList();
+    }
+
+    private int deleteReservationTime(Long id) {
+        try {
+            return shardSelector.onShardOf(id, () -> transactionTemplate.execute(status -> {
+                int deletedCount = reservationTimeDao.delete(id);
+                if (deletedCount > 0) {
+                    changeLogDao.append(ChangeLog.reservationTimeDeleted(id));
+                }
+                return deletedCount;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("해당 시간에 예약이 존재하여 삭제할 수 없습니다.");
+        }
+    }
+
+    private void validateInterval(Integer intervalMinutes) {
+        if (intervalMinutes == null || intervalMinutes < 1 || intervalMinutes >= MINUTES_PER_DAY) {
+            throw new InvalidInputException("시간 간격은 1분 이상 하루 미만이어야 합니다.");
+        }
+    }
+
+    private void validateRange(ReservationStartAt start, ReservationStartAt end) {
+        if (start.getMinuteOfDay() > end.getMinuteOfDay()) {
+            throw new InvalidInputException("시작 시간은 종료 시간보다 늦을 수 없습니다.");
+        }
+    }
+
+    private void validateNull(Long id) {
+        if (id == null) {
+            throw new InvalidInputException("예약 시간 아이디는 비어있을 수 없습니다.");
         }
     }
 }
@@ -0,0 +1,162 @@
+package roomescape.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.domain.reservation.Reservation;
+import roomescape.exception.ServiceUnavailableException;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.write-pipeline.enabled", havingValue = "true")
+public class ReservationWritePipeline {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final ReservationBatchWriter batchWriter;
+    private final ShardSelector shardSelector;
+    private final BlockingQueue<PendingReservation> queue;
+    private final int maxGroupSize;
+    private final long maxWaitNanos;
+    private final long retryAfterSeconds;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public ReservationWritePipeline(ReservationBatchWriter batchWriter,
+                                    ShardSelector shardSelector,
+                                    @Value("${roomescape.write-pipeline.queue-capacity:4096}") int queueCapacity,
+                                    @Value("${roomescape.write-pipeline.max-group-size:128}") int maxGroupSize,
+                                    @Value("${roomescape.write-pipeline.max-wait-millis:5}") long maxWaitMillis,
+                                    @Value("${roomescape.write-pipeline.retry-after-seconds:1}")
+                                    long retryAfterSeconds) {
+        this.batchWriter = batchWriter;
+        this.shardSelector = shardSelector;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxGroupSize = maxGroupSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.writer = new Thread(this::runWriter, "reservation-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public CompletableFuture<Long> submit(Reservation reservation) {
+        if (!running) {
+            return CompletableFuture.failedFuture(unavailable("예약 쓰기 작업이 종료되었습니다."));
+        }
+        PendingReservation pending = new PendingReservation(reservation, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return CompletableFuture.failedFuture(unavailable("예약 쓰기 대기열이 가득 찼습니다."));
+        }
+        return pending.result();
+    }
+
+    private void runWriter() {
+        List<PendingReservation> group = new ArrayList<>(maxGroupSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectGroup(group);
+                for (List<PendingReservation> shardGroup : splitByShard(group)) {
+                    commit(shardGroup);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                group.clear();
+            }
+        }
+        failRemaining();
+    }
+
+    private void collectGroup(List<PendingReservation> group) throws InterruptedException {
+        PendingReservation first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        group.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (group.size() < maxGroupSize) {
+            queue.drainTo(group, maxGroupSize - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.size() >= maxGroupSize || remaining <= 0) {
+                return;
+            }
+            PendingReservation next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            group.add(next);
+        }
+    }
+
+    private Collection<List<PendingReservation>> splitByShard(List<PendingReservation> group) {
+        Map<Integer, List<PendingReservation>> shardGroups = new LinkedHashMap<>();
+        for (PendingReservation pending : group) {
+            int shard = shardSelector.ofRoom(pending.reservation().getRoomId());
+            shardGroups.computeIfAbsent(shard, key -> new ArrayList<>()).add(pending);
+        }
+        return shardGroups.values();
+    }
+
+    private void commit(List<PendingReservation> group) {
+        List<Reservation> reservations = group.stream()
+                .map(PendingReservation::reservation)
+                .toList();
+        try {
+            List<Long> ids = batchWriter.addAll(reservations);
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).result().complete(ids.get(i));
+            }
+        } catch (RuntimeException e) {
+            commitOneByOne(group);
+        }
+    }
+
+    private void commitOneByOne(List<PendingReservation> group) {
+        for (PendingReservation pending : group) {
+            try {
+                List<Long> ids = batchWriter.addAll(List.of(pending.reservation()));
+                pending.result().complete(ids.get(0));
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void failRemaining() {
+        PendingReservation pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(unavailable("예약 쓰기 작업이 종료되었습니다."));
+        }
+    }
+
+    private ServiceUnavailableException unavailable(String message) {
+        return new ServiceUnavailableException(message, retryAfterSeconds);
+    }
+
+    private record PendingReservation(Reservation reservation, CompletableFuture<Long> result) {
+    }
+}
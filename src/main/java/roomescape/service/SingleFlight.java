@@ -0,0 +1,70 @@
+package roomescape.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class SingleFlight<T> {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Flight<T>> inFlight = new AtomicReference<>();
+    private volatile long invalidatedAtNanos;
+    private volatile boolean invalidated;
+
+    public T execute(Supplier<T> loader) {
+        while (true) {
+            long currentGeneration = generation.get();
+            Flight<T> flight = inFlight.get();
+            if (flight != null && flight.generation() == currentGeneration) {
+                return join(flight.result());
+            }
+            Flight<T> created = new Flight<>(currentGeneration, new CompletableFuture<>());
+            if (inFlight.compareAndSet(flight, created)) {
+                return load(created, loader);
+            }
+        }
+    }
+
+    public void invalidate() {
+        invalidatedAtNanos = System.nanoTime();
+        invalidated = true;
+        generation.incrementAndGet();
+    }
+
+    public boolean invalidatedWithin(long nanos) {
+        return invalidated && System.nanoTime() - invalidatedAtNanos < nanos;
+    }
+
+    private T load(Flight<T> flight, Supplier<T> loader) {
+        T result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.compareAndSet(flight, null);
+            flight.result().completeExceptionally(e);
+            throw e;
+        }
+        inFlight.compareAndSet(flight, null);
+        flight.result().complete(result);
+        return result;
+    }
+
+    private T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Flight<T>(long generation, CompletableFuture<T> result) {
+    }
+}
@@ -0,0 +1,168 @@
+package roomescape.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.dao.id.IdAllocator;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.dao.snapshot.SnapshotCounts;
+import roomescape.dao.snapshot.SnapshotDao;
+import roomescape.dao.snapshot.SnapshotFormat;
+import roomescape.dto.snapshot.SnapshotResponse;
+
+@Service
+public class SnapshotService {
+
+    private static final String FILE_PREFIX = "reservations-";
+    private static final String FILE_SUFFIX = ".snapshot.gz";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final SnapshotDao snapshotDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardSelector shardSelector;
+    private final IdAllocator idAllocator;
+    private final Path directory;
+    private final Clock clock;
+
+    public SnapshotService(SnapshotDao snapshotDao,
+                           TransactionTemplate transactionTemplate,
+                           ShardSelector shardSelector,
+                           IdAllocator idAllocator,
+                           @Value("${roomescape.snapshot.directory:snapshots}") String directory) {
+        this.snapshotDao = snapshotDao;
+        this.transactionTemplate = transactionTemplate;
+        this.shardSelector = shardSelector;
+        this.idAllocator = idAllocator;
+        this.directory = Path.of(directory);
+        this.clock = Clock.systemUTC();
+    }
+
+    public synchronized SnapshotResponse takeSnapshot() {
+        long startedAt = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(FILE_PREFIX + FILE_TIME.format(clock.instant()) + FILE_SUFFIX);
+            Path temporary = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+            SnapshotCounts counts;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new FastGzipOutputStream(Files.newOutputStream(temporary)), BUFFER_SIZE))) {
+                counts = writeSnapshot(out);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            return SnapshotResponse.of(target.getFileName().toString(), counts, Files.size(target), elapsedMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Optional<SnapshotCounts> restoreLatest() {
+        Optional<Path> latest = findLatest();
+        if (latest.isEmpty()) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(latest.get()), BUFFER_SIZE), BUFFER_SIZE))) {
+            return Optional.of(restore(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isEmpty() {
+        for (int shard = 0; shard < shardSelector.count(); shard++) {
+            if (!ShardRoute.on(shard, snapshotDao::isEmpty)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Optional<Path> findLatest() {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .max(Comparator.comparing(file -> file.getFileName().toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SnapshotCounts writeSnapshot(DataOutputStream out) throws IOException {
+        out.writeInt(SnapshotFormat.MAGIC);
+        out.writeInt(SnapshotFormat.VERSION);
+        SnapshotCounts counts = SnapshotCounts.EMPTY;
+        for (int shard = 0; shard < shardSelector.count(); shard++) {
+            out.writeByte(SnapshotFormat.SECTION);
+            out.writeInt(shard);
+            counts = counts.plus(ShardRoute.on(shard, () -> snapshotDao.write(out)));
+            out.writeByte(SnapshotFormat.SECTION_END);
+        }
+        out.writeByte(SnapshotFormat.END);
+        return counts;
+    }
+
+    private SnapshotCounts restore(DataInputStream in) throws IOException {
+        if (in.readInt() != SnapshotFormat.MAGIC || in.readInt() != SnapshotFormat.VERSION) {
+            throw new IOException("지원하지 않는 스냅숏 파일입니다.");
+        }
+        SnapshotCounts counts = SnapshotCounts.EMPTY;
+        byte type;
+        while ((type = in.readByte()) == SnapshotFormat.SECTION) {
+            int shard = in.readInt();
+            if (shard >= shardSelector.count()) {
+                throw new IOException("스냅숏의 샤드 번호 " + shard + "가 현재 샤드 개수를 벗어납니다.");
+            }
+            counts = counts.plus(ShardRoute.on(shard, () -> restoreShard(in, shard)));
+        }
+        if (type != SnapshotFormat.END) {
+            throw new IOException("스냅숏 파일이 올바르게 끝나지 않았습니다.");
+        }
+        return counts;
+    }
+
+    private SnapshotCounts restoreShard(DataInputStream in, int shard) {
+        SnapshotCounts counts = transactionTemplate.execute(status -> snapshotDao.restoreSection(in));
+        idAllocator.align(shard);
+        return counts;
+    }
+
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+
+        private FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package roomescape.service.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import roomescape.audit.AuditLog;
+import roomescape.dao.reactive.ReactiveChangeLogDao;
+import roomescape.dao.reactive.ReactiveReservationDao;
+import roomescape.dao.reactive.ReactiveReservationTimeDao;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.domain.changelog.ChangeOperation;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.NotFoundException;
+
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveReservationService {
+
+    private final ReactiveReservationDao reservationDao;
+    private final ReactiveReservationTimeDao reservationTimeDao;
+    private final ReactiveChangeLogDao changeLogDao;
+    private final TransactionalOperator transactionalOperator;
+    private final AuditLog auditLog;
+
+    public ReactiveReservationService(ReactiveReservationDao reservationDao,
+                                      ReactiveReservationTimeDao reservationTimeDao,
+                                      ReactiveChangeLogDao changeLogDao,
+                                      TransactionalOperator transactionalOperator,
+                                      AuditLog auditLog) {
+        this.reservationDao = reservationDao;
+        this.reservationTimeDao = reservationTimeDao;
+        this.changeLogDao = changeLogDao;
+        this.transactionalOperator = transactionalOperator;
+        this.auditLog = auditLog;
+    }
+
+    public Flux<ReservationResponse> findAll() {
+        return reservationDao.findAll()
+                .map(ReservationResponse::from);
+    }
+
+    public Mono<ReservationResponse> add(ReservationCreateRequest request) {
+        return getReservationTime(request.getTimeId())
+                .map(request::toDomain)
+                .flatMap(this::addReservation)
+                .map(ReservationResponse::from);
+    }
+
+    private Mono<Reservation> addReservation(Reservation reservation) {
+        return reservationDao.add(reservation)
+                .flatMap(id -> changeLogDao.append(ChangeLog.reservationCreated(id, reservation))
+                        .thenReturn(id))
+                .as(transactionalOperator::transactional)
+                .doOnNext(id -> auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, id))
+                .map(id -> new Reservation(
+                        id,
+                        reservation.getName(),
+                        reservation.getDate(),
+                        reservation.getReservationTime()
+                ));
+    }
+
+    public Mono<Void> delete(Long id) {
+        if (id == null) {
+            return Mono.error(new InvalidInputException("예약 아이디는 비어있을 수 없습니다."));
+        }
+        return reservationDao.delete(id)
+                .flatMap(deletedCount -> appendDeletedLog(id, deletedCount))
+                .as(transactionalOperator::transactional)
+                .filter(deletedCount -> deletedCount > 0)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("해당 아이디를 가진 예약이 존재하지 않습니다.")))
+                .doOnNext(deletedCount -> auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.DELETED, id))
+                .then();
+    }
+
+    private Mono<Long> appendDeletedLog(long id, long deletedCount) {
+        if (deletedCount == 0) {
+            return Mono.just(deletedCount);
+        }
+        return changeLogDao.append(ChangeLog.reservationDeleted(id))
+                .thenReturn(deletedCount);
+    }
+
+    private Mono<ReservationTime> getReservationTime(Long timeId) {
+        if (timeId == null) {
+            return Mono.error(new InvalidInputException("예약 시간 아이디는 비어있을 수 없습니다."));
+        }
+        return reservationTimeDao.findById(timeId)
+                .switchIfEmpty(Mono.error(
+                        () -> new InvalidInputException("예약 시간 아이디에 해당하는 예약 시간이 존재하지 않습니다.")));
+    }
+}
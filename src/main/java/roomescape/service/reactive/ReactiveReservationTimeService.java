@@ -0,0 +1,87 @@
+package roomescape.service.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import roomescape.audit.AuditLog;
+import roomescape.dao.reactive.ReactiveChangeLogDao;
+import roomescape.dao.reactive.ReactiveReservationTimeDao;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.domain.changelog.ChangeOperation;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.exception.ConflictException;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.NotFoundException;
+
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveReservationTimeService {
+
+    private final ReactiveReservationTimeDao reservationTimeDao;
+    private final ReactiveChangeLogDao changeLogDao;
+    private final TransactionalOperator transactionalOperator;
+    private final AuditLog auditLog;
+
+    public ReactiveReservationTimeService(ReactiveReservationTimeDao reservationTimeDao,
+                                          ReactiveChangeLogDao changeLogDao,
+                                          TransactionalOperator transactionalOperator,
+                                          AuditLog auditLog) {
+        this.reservationTimeDao = reservationTimeDao;
+        this.changeLogDao = changeLogDao;
+        this.transactionalOperator = transactionalOperator;
+        this.auditLog = auditLog;
+    }
+
+    public Flux<ReservationTimeResponse> findAll() {
+        return reservationTimeDao.findAll()
+                .map(ReservationTimeResponse::from);
+    }
+
+    public Mono<ReservationTimeResponse> add(ReservationTimeCreateRequest request) {
+        return Mono.fromSupplier(request::toDomain)
+                .flatMap(reservationTime -> reservationTimeDao.add(reservationTime)
+                        .flatMap(id -> changeLogDao.append(ChangeLog.reservationTimeCreated(id, reservationTime))
+                                .thenReturn(id))
+                        .as(transactionalOperator::transactional)
+                        .onErrorMap(DuplicateKeyException.class,
+                                e -> new ConflictException("해당 방에 이미 같은 예약 시간이 존재합니다."))
+                        .doOnNext(id -> auditLog.record(ChangeEntityType.RESERVATION_TIME, ChangeOperation.CREATED, id))
+                        .map(id -> new ReservationTime(id, reservationTime.getRoomId(), reservationTime.getStartAt())))
+                .map(ReservationTimeResponse::from);
+    }
+
+    public Mono<Void> delete(Long id) {
+        if (id == null) {
+            return Mono.error(new InvalidInputException("예약 시간 아이디는 비어있을 수 없습니다."));
+        }
+        return reservationTimeDao.delete(id)
+                .flatMap(deletedCount -> appendDeletedLog(id, deletedCount))
+                .as(transactionalOperator::transactional)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new ConflictException("해당 시간에 예약이 존재하여 삭제할 수 없습니다."))
+                .filter(deletedCount -> deletedCount > 0)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("해당 아이디를 가진 예약 시간이 존재하지 않습니다.")))
+                .doOnNext(deletedCount -> auditLog.record(
+                        ChangeEntityType.RESERVATION_TIME,
+                        ChangeOperation.DELETED,
+                        id
+                ))
+                .then();
+    }
+
+    private Mono<Long> appendDeletedLog(long id, long deletedCount) {
+        if (deletedCount == 0) {
+            return Mono.just(deletedCount);
+        }
+        return changeLogDao.append(ChangeLog.reservationTimeDeleted(id))
+                .thenReturn(deletedCount);
+    }
+}
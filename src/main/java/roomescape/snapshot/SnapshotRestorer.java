@@ -0,0 +1,36 @@
+package roomescape.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+import roomescape.service.SnapshotService;
+
+@Component
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(name = "roomescape.snapshot.restore-on-startup", havingValue = "true")
+public class SnapshotRestorer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotRestorer.class);
+
+    private final SnapshotService snapshotService;
+
+    public SnapshotRestorer(SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!snapshotService.isEmpty()) {
+            log.info("저장된 데이터가 있어 스냅숏 복원을 건너뜁니다.");
+            return;
+        }
+        snapshotService.restoreLatest().ifPresentOrElse(
+                counts -> log.info("스냅숏 복원 완료: 예약 시간 {}건, 예약 {}건",
+                        counts.reservationTimes(), counts.reservations()),
+                () -> log.info("복원할 스냅숏이 없습니다.")
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package roomescape.timing;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+public class ServerTiming {
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long startedAt;
+    private long databaseNanos;
+    private long mappingNanos;
+    private long serializationStartedAt;
+
+    private ServerTiming(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public static ServerTiming start() {
+        ServerTiming serverTiming = new ServerTiming(System.nanoTime());
+        CURRENT.set(serverTiming);
+        return serverTiming;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void recordDatabase(long elapsedNanos) {
+        ServerTiming serverTiming = CURRENT.get();
+        if (serverTiming != null) {
+            serverTiming.databaseNanos += elapsedNanos;
+        }
+    }
+
+    public static <T> T measureMapping(Supplier<T> mapping) {
+        ServerTiming serverTiming = CURRENT.get();
+        if (serverTiming == null) {
+            return mapping.get();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return mapping.get();
+        } finally {
+            serverTiming.mappingNanos += System.nanoTime() - startedAt;
+        }
+    }
+
+    public static void markSerializationStart() {
+        ServerTiming serverTiming = CURRENT.get();
+        if (serverTiming != null) {
+            serverTiming.serializationStartedAt = System.nanoTime();
+        }
+    }
+
+    public String toHeaderValue() {
+        long finishedAt = System.nanoTime();
+        long serializationNanos = serializationStartedAt == 0 ? 0 : finishedAt - serializationStartedAt;
+        return String.format(Locale.ROOT,
+                "db;dur=%.2f, mapping;dur=%.2f, serialization;dur=%.2f, total;dur=%.2f",
+                databaseNanos / NANOS_PER_MILLI,
+                mappingNanos / NANOS_PER_MILLI,
+                serializationNanos / NANOS_PER_MILLI,
+                (finishedAt - startedAt) / NANOS_PER_MILLI
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package roomescape.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming serverTiming = ServerTiming.start();
+        ServerTimingResponseWrapper wrapper = new ServerTimingResponseWrapper(response, serverTiming);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            wrapper.applyHeader();
+            ServerTiming.clear();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package roomescape.timing;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final ServerTiming serverTiming;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean written;
+
+    ServerTimingResponseWrapper(HttpServletResponse response, ServerTiming serverTiming) {
+        super(response);
+        this.serverTiming = serverTiming;
+    }
+
+    void applyHeader() {
+        if (!isCommitted()) {
+            setHeader(SERVER_TIMING_HEADER, serverTiming.toHeaderValue());
+        }
+    }
+
+    private void applyHeaderOnFirstWrite() {
+        if (!written) {
+            written = true;
+            applyHeader();
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new HeaderApplyingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new HeaderApplyingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        applyHeader();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        applyHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        applyHeader();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        applyHeader();
+        super.sendRedirect(location);
+    }
+
+    private class HeaderApplyingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private HeaderApplyingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            applyHeaderOnFirstWrite();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            applyHeaderOnFirstWrite();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            applyHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            applyHeader();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private class HeaderApplyingWriter extends Writer {
+
+        private final PrintWriter delegate;
+
+        private HeaderApplyingWriter(PrintWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            applyHeaderOnFirstWrite();
+            delegate.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            applyHeaderOnFirstWrite();
+            delegate.write(str, off, len);
+        }
+
+        @Override
+        public void flush() {
+            applyHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() {
+            applyHeader();
+            delegate.close();
+        }
+    }
+}
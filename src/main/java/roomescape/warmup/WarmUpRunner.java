@@ -0,0 +1,122 @@
+package roomescape.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import roomescape.dao.ReservationDao;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.dao.routing.DataSourceRoute;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.service.ReservationTimeService;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+    private static final long MISSING_ID = -1L;
+    private static final int PAGE_SIZE = 100;
+
+    private final DataSource dataSource;
+    private final ReservationDao reservationDao;
+    private final ReservationTimeDao reservationTimeDao;
+    private final ReservationTimeService reservationTimeService;
+    private final ObjectMapper objectMapper;
+    private final int connections;
+    private final int iterations;
+
+    public WarmUpRunner(DataSource dataSource,
+                        ReservationDao reservationDao,
+                        ReservationTimeDao reservationTimeDao,
+                        ReservationTimeService reservationTimeService,
+                        ObjectMapper objectMapper,
+                        @Value("${roomescape.warm-up.connections:10}") int connections,
+                        @Value("${roomescape.warm-up.iterations:200}") int iterations) {
+        this.dataSource = dataSource;
+        this.reservationDao = reservationDao;
+        this.reservationTimeDao = reservationTimeDao;
+        this.reservationTimeService = reservationTimeService;
+        this.objectMapper = objectMapper;
+        this.connections = connections;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            openConnections();
+            DataSourceRoute.read(() -> {
+                openConnections();
+                return null;
+            });
+            reservationTimeService.findAll();
+            reservationDao.findAll();
+            for (int i = 0; i < iterations; i++) {
+                exerciseQueries();
+                exerciseSerializers();
+            }
+            log.info("워밍업을 {}ms 만에 마쳤습니다.", System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("워밍업 중 오류가 발생했지만 기동을 계속합니다.", e);
+        }
+    }
+
+    private void openConnections() {
+        List<Connection> opened = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                opened.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("워밍업 중 커넥션을 {}개까지만 열었습니다.", opened.size(), e);
+        } finally {
+            opened.forEach(this::close);
+        }
+    }
+
+    private void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("워밍업 커넥션을 닫지 못했습니다.", e);
+        }
+    }
+
+    private void exerciseQueries() {
+        ReservationDate today = ReservationDate.from(LocalDate.now().toString());
+        reservationTimeDao.findById(MISSING_ID);
+        reservationTimeDao.exist(MISSING_ID);
+        reservationDao.findAfterId(0, PAGE_SIZE);
+        reservationDao.findById(MISSING_ID);
+        reservationDao.exist(MISSING_ID);
+        reservationDao.findByNamePrefix("warm-up", 1, 0);
+        reservationDao.findSlotOccupancies(today, today);
+    }
+
+    private void exerciseSerializers() throws Exception {
+        ReservationResponse response = ReservationResponse.of(
+                MISSING_ID,
+                "warm-up",
+                "2024-01-01",
+                ReservationTimeResponse.of(MISSING_ID, "10:00")
+        );
+        objectMapper.writeValueAsBytes(List.of(response, response));
+        byte[] request = objectMapper.writeValueAsBytes(ReservationCreateRequest.of("warm-up", "2024-01-01", 1L));
+        objectMapper.readValue(request, ReservationCreateRequest.class);
+    }
+}
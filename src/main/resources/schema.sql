@@ -1,16 +1,69 @@
-CREATE TABLE reservation_time
+CREATE TABLE IF NOT EXISTS reservation_time
 (
     id       BIGINT       NOT NULL AUTO_INCREMENT,
+    room_id  BIGINT       NOT NULL DEFAULT 1,
     start_at VARCHAR(255) NOT NULL,
     PRIMARY KEY (id)
 );
 
-CREATE TABLE reservation
+DROP INDEX IF EXISTS idx_reservation_time_room;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reservation_time_room_start_at ON reservation_time (room_id, start_at);
+
+CREATE SEQUENCE IF NOT EXISTS reservation_time_id_seq;
+
+CREATE TABLE IF NOT EXISTS reservation
 (
-    id      BIGINT       NOT NULL AUTO_INCREMENT,
-    name    VARCHAR(255) NOT NULL,
-    date    VARCHAR(255) NOT NULL,
-    time_id BIGINT,
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    name     VARCHAR(255) NOT NULL,
+    name_key VARCHAR(255) GENERATED ALWAYS AS (LOWER(name)),
+    date     VARCHAR(255) NOT NULL,
+    time_id  BIGINT,
+    room_id  BIGINT       NOT NULL DEFAULT 1,
     PRIMARY KEY (id),
     FOREIGN KEY (time_id) REFERENCES reservation_time (id)
 );
+
+CREATE INDEX IF NOT EXISTS idx_reservation_name_key ON reservation (name_key, id);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_date_time ON reservation (date, time_id);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_room_date ON reservation (room_id, date);
+
+CREATE SEQUENCE IF NOT EXISTS reservation_id_seq;
+
+CREATE TABLE IF NOT EXISTS change_log
+(
+    seq         BIGINT       NOT NULL,
+    entity_type VARCHAR(32)  NOT NULL,
+    entity_id   BIGINT       NOT NULL,
+    operation   VARCHAR(16)  NOT NULL,
+    name        VARCHAR(255),
+    date        VARCHAR(255),
+    time_id     BIGINT,
+    start_at    VARCHAR(255),
+    created_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (seq)
+);
+
+CREATE TABLE IF NOT EXISTS change_log_watermark
+(
+    id                INT    NOT NULL,
+    compacted_through BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO change_log_watermark (id, compacted_through)
+SELECT 1, 0
+WHERE NOT EXISTS (SELECT 1 FROM change_log_watermark WHERE id = 1);
+
+CREATE TABLE IF NOT EXISTS change_log_head
+(
+    id       INT    NOT NULL,
+    last_seq BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO change_log_head (id, last_seq)
+SELECT 1, 0
+WHERE NOT EXISTS (SELECT 1 FROM change_log_head WHERE id = 1);
@@ -1,41 +1,177 @@
 let isEditing = false;
 const RESERVATION_API_ENDPOINT = '/reservations';
 const TIME_API_ENDPOINT = '/times';
-const timesOptions = [];
+const SLICE_SIZE = 100;
+const VIEWPORT_OVERSCAN = 10;
+const COLUMN_COUNT = 5;
+
+const reservations = [];
+let hasNext = true;
+let nextAfterId = 0;
+let isLoading = false;
+let rowHeight = 49;
+let isRowHeightMeasured = false;
+let renderedFirst = -1;
+let renderedLast = -1;
+let isRenderScheduled = false;
 
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
 
-  requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
-      .catch(error => console.error('Error fetching reservations:', error));
+  const tableBody = document.getElementById('table-body');
+  if (tableBody.dataset.serverRendered === 'true') {
+    const cursor = document.getElementById('table-cursor');
+    if (cursor.dataset.loadFailed !== 'true') {
+      reservations.push(...readRenderedRows(tableBody));
+    }
+    hasNext = cursor.dataset.hasNext === 'true';
+    nextAfterId = Number(cursor.dataset.nextAfterId);
+  }
+
+  document.getElementById('table-viewport').addEventListener('scroll', scheduleRender, {passive: true});
+  window.addEventListener('resize', scheduleRender);
 
-  fetchTimes();
+  renderWindow(true);
 });
 
-function render(data) {
-  const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
+function readRenderedRows(tableBody) {
+  return Array.from(tableBody.rows).map(row => ({
+    id: Number(row.cells[0].textContent),
+    name: row.cells[1].textContent,
+    date: row.cells[2].textContent,
+    time: {startAt: row.cells[3].textContent}
+  }));
+}
 
-  data.forEach(item => {
-    const row = tableBody.insertRow();
+function scheduleRender() {
+  if (isRenderScheduled) return;
+  isRenderScheduled = true;
+  requestAnimationFrame(() => {
+    isRenderScheduled = false;
+    renderWindow(false);
+  });
+}
 
-    row.insertCell(0).textContent = item.id;
-    row.insertCell(1).textContent = item.name;
-    row.insertCell(2).textContent = item.date;
-    row.insertCell(3).textContent = item.time.startAt;
+// 스크롤 위치에서 보이는 행과 앞뒤 여유 행만 그리고, 나머지는 높이만 차지하는 빈 행으로 대신한다.
+function renderWindow(force) {
+  const viewport = document.getElementById('table-viewport');
+  const first = Math.max(0, Math.floor(viewport.scrollTop / rowHeight) - VIEWPORT_OVERSCAN);
+  const last = Math.min(
+      reservations.length,
+      Math.ceil((viewport.scrollTop + viewport.clientHeight) / rowHeight) + VIEWPORT_OVERSCAN
+  );
+
+  if (force || first !== renderedFirst || last !== renderedLast) {
+    renderedFirst = first;
+    renderedLast = last;
+
+    const fragment = document.createDocumentFragment();
+    fragment.appendChild(createSpacer(first * rowHeight));
+    for (let i = first; i < last; i++) {
+      fragment.appendChild(createRow(reservations[i]));
+    }
+    fragment.appendChild(createSpacer((reservations.length - last) * rowHeight));
+    document.getElementById('table-body').replaceChildren(fragment);
+    measureRowHeight();
+  }
 
-    const actionCell = row.insertCell(row.cells.length);
-    actionCell.appendChild(createActionButton('삭제', 'btn-danger', deleteRow));
-  });
+  loadMoreIfNeeded();
 }
 
-function fetchTimes() {
-  requestRead(TIME_API_ENDPOINT)
-      .then(data => {
-        timesOptions.push(...data);
+function measureRowHeight() {
+  if (isRowHeightMeasured) return;
+  const sample = document.querySelector('#table-body tr[data-id]');
+  if (!sample) return;
+  isRowHeightMeasured = true;
+  const measured = sample.getBoundingClientRect().height;
+  if (measured > 0 && measured !== rowHeight) {
+    rowHeight = measured;
+    renderWindow(true);
+  }
+}
+
+function loadMoreIfNeeded() {
+  if (isLoading || !hasNext || renderedLast < reservations.length - VIEWPORT_OVERSCAN) return;
+
+  isLoading = true;
+  requestRead(`${RESERVATION_API_ENDPOINT}/slice?afterId=${nextAfterId}&size=${SLICE_SIZE}`)
+      .then(slice => {
+        reservations.push(...slice.reservations);
+        hasNext = slice.hasNext;
+        nextAfterId = slice.nextAfterId;
+        isLoading = false;
+        renderWindow(true);
       })
-      .catch(error => console.error('Error fetching time:', error));
+      .catch(error => {
+        isLoading = false;
+        console.error('Error fetching reservations:', error);
+        if (reservations.length === 0) {
+          showLoadError();
+        }
+      });
+}
+
+function showLoadError() {
+  const row = document.createElement('tr');
+  row.className = 'table-load-error';
+  const cell = document.createElement('td');
+  cell.colSpan = 5;
+  cell.textContent = '예약 목록을 불러오지 못했습니다. 잠시 후 다시 시도해 주세요.';
+  row.appendChild(cell);
+  document.getElementById('table-body').replaceChildren(row);
+}
+
+function createRow(item) {
+  const row = document.createElement('tr');
+  row.dataset.id = item.id;
+
+  row.insertCell(0).textContent = item.id;
+  row.insertCell(1).textContent = item.name;
+  row.insertCell(2).textContent = item.date;
+  row.insertCell(3).textContent = item.time.startAt;
+
+  const actionCell = row.insertCell(4);
+  actionCell.appendChild(createActionButton('삭제', 'btn-danger', deleteRow));
+  return row;
+}
+
+function createSpacer(height) {
+  const row = document.createElement('tr');
+  row.className = 'table-spacer';
+  const cell = row.insertCell(0);
+  cell.colSpan = COLUMN_COUNT;
+  cell.style.height = `${height}px`;
+  return row;
+}
+
+function lowerBound(id) {
+  let low = 0;
+  let high = reservations.length;
+  while (low < high) {
+    const middle = (low + high) >>> 1;
+    if (reservations[middle].id < id) {
+      low = middle + 1;
+    } else {
+      high = middle;
+    }
+  }
+  return low;
+}
+
+function insertReservation(reservation) {
+  const lastLoadedId = reservations.length === 0 ? 0 : reservations[reservations.length - 1].id;
+  // 아직 불러오지 않은 구간의 예약은 다음 페이지를 불러올 때 함께 받는다.
+  if (hasNext && reservation.id > lastLoadedId) return;
+  reservations.splice(lowerBound(reservation.id), 0, reservation);
+  renderWindow(true);
+}
+
+function removeReservation(id) {
+  const index = lowerBound(id);
+  if (index < reservations.length && reservations[index].id === id) {
+    reservations.splice(index, 1);
+    renderWindow(true);
+  }
 }
 
 function createSelect(options, defaultText, selectId, textProperty) {
@@ -69,14 +205,23 @@ function createActionButton(label, className, eventListener) {
 
 function addInputRow() {
   if (isEditing) return;  // 이미 편집 중인 경우 추가하지 않음
-
-  const tableBody = document.getElementById('table-body');
-  const row = tableBody.insertRow();
   isEditing = true;
 
+  // 시간 목록은 들고 있지 않고 입력 행을 열 때마다 새로 받는다.
+  requestRead(TIME_API_ENDPOINT)
+      .then(insertInputRow)
+      .catch(error => {
+        isEditing = false;
+        console.error('Error fetching time:', error);
+      });
+}
+
+function insertInputRow(times) {
+  const row = document.getElementById('input-body').insertRow();
+
   const nameInput = createInput('text');
   const dateInput = createInput('date');
-  const timeDropdown = createSelect(timesOptions, "시간 선택", 'time-select', 'startAt');
+  const timeDropdown = createSelect(times, "시간 선택", 'time-select', 'startAt');
 
   const cellFieldsToCreate = ['', nameInput, dateInput, timeDropdown];
 
@@ -104,19 +249,11 @@ function createInput(type) {
   return input;
 }
 
-function createActionButton(label, className, eventListener) {
-  const button = document.createElement('button');
-  button.textContent = label;
-  button.classList.add('btn', className, 'mr-2');
-  button.addEventListener('click', eventListener);
-  return button;
-}
-
 function saveRow(event) {
   // 이벤트 전파를 막는다
   event.stopPropagation();
 
-  const row = event.target.parentNode.parentNode;
+  const row = event.target.closest('tr');
   const nameInput = row.querySelector('input[type="text"]');
   const dateInput = row.querySelector('input[type="date"]');
   const timeSelect = row.querySelector('select');
@@ -128,20 +265,20 @@ function saveRow(event) {
   };
 
   requestCreate(reservation)
-      .then(() => {
-        location.reload();
+      .then(created => {
+        row.remove();
+        isEditing = false;
+        insertReservation(created);
       })
       .catch(error => console.error('Error:', error));
-
-  isEditing = false;  // isEditing 값을 false로 설정
 }
 
 function deleteRow(event) {
   const row = event.target.closest('tr');
-  const reservationId = row.cells[0].textContent;
+  const reservationId = Number(row.dataset.id);
 
   requestDelete(reservationId)
-      .then(() => row.remove())
+      .then(() => removeReservation(reservationId))
       .catch(error => console.error('Error:', error));
 }
 
@@ -0,0 +1,165 @@
+package roomescape.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import roomescape.domain.changelog.ChangeEntityType;
+import roomescape.domain.changelog.ChangeOperation;
+import roomescape.dto.audit.AuditRecordResponse;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+import roomescape.service.AuditLogService;
+import roomescape.service.ReservationService;
+import roomescape.service.ReservationTimeService;
+
+@SpringBootTest(properties = {
+        "roomescape.audit.directory=${java.io.tmpdir}/roomescape-audit-log-test",
+        "roomescape.audit.segment-bytes=256",
+        "roomescape.audit.max-segments=1000",
+        "spring.datasource.url=jdbc:h2:mem:audit",
+        "roomescape.warm-up.enabled=false"
+})
+class AuditLogTest {
+
+    private static final Path DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "roomescape-audit-log-test");
+
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @AfterAll
+    static void cleanUp() throws IOException {
+        deleteDirectory(DIRECTORY);
+    }
+
+    @Test
+    @DisplayName("예약 시간과 예약의 생성, 삭제가 감사 로그에 비동기로 기록되고 기간으로 조회된다.")
+    void recordMutations() throws InterruptedException {
+        //given
+        Instant from = Instant.now().minus(1, ChronoUnit.SECONDS);
+        long timeId = reservationTimeService.add(ReservationTimeCreateRequest.from("10:00")).getId();
+        ReservationResponse reservation = reservationService.add(
+                ReservationCreateRequest.of("daon", "2024-04-24", timeId)
+        );
+        reservationService.delete(reservation.getId());
+        String to = Instant.now().plus(1, ChronoUnit.SECONDS).toString();
+
+        //when
+        List<AuditRecordResponse> records = awaitRecords(from.toString(), to, 3);
+
+        //then
+        assertThat(records).extracting(
+                AuditRecordResponse::getEntityType,
+                AuditRecordResponse::getOperation,
+                AuditRecordResponse::getEntityId
+        ).containsExactly(
+                tuple(ChangeEntityType.RESERVATION_TIME.name(),
+                        ChangeOperation.CREATED.name(), timeId),
+                tuple(ChangeEntityType.RESERVATION.name(),
+                        ChangeOperation.CREATED.name(), reservation.getId()),
+                tuple(ChangeEntityType.RESERVATION.name(),
+                        ChangeOperation.DELETED.name(), reservation.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("파일이 가득 차면 새 파일로 넘어가고, 여러 파일에 걸친 기록을 순서대로 읽는다.")
+    void rotateSegments() throws IOException {
+        //given
+        Path directory = DIRECTORY.resolve("rotation");
+        AuditSegmentStore store = new AuditSegmentStore(directory, 5 + AuditSegmentStore.RECORD_BYTES * 2, 2);
+        for (int i = 1; i <= 6; i++) {
+            store.append(1000L + i, (byte) 0, (byte) 0, i);
+        }
+        store.close();
+
+        //when
+        List<AuditRecord> records = store.read(0, Long.MAX_VALUE, 100);
+
+        //then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+        assertThat(records).extracting(AuditRecord::entityId)
+                .containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출한 스레드를 기다리게 하지 않고 기록을 버린 뒤 버린 개수를 센다.")
+    void dropWhenBufferIsFull() {
+        //given
+        AuditLog auditLog = new AuditLog(DIRECTORY.resolve("full").toString(), 2, 256, 1000, 1000, false, 1000);
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, 1);
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, 2);
+
+        //when
+        long startedAt = System.nanoTime();
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, 3);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        //then
+        assertAll(
+                () -> assertThat(auditLog.getDropped()).isEqualTo(1),
+                () -> assertThat(waitedMillis).isLessThan(1000)
+        );
+    }
+
+    @Test
+    @DisplayName("역압을 켜면 버퍼가 가득 찼을 때 정해진 시간만큼 기다린 뒤에야 기록을 버린다.")
+    void waitBeforeDropWithBackpressure() {
+        //given
+        AuditLog auditLog = new AuditLog(DIRECTORY.resolve("backpressure").toString(), 2, 256, 1000, 1000, true, 10);
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, 1);
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, 2);
+
+        //when
+        long startedAt = System.nanoTime();
+        auditLog.record(ChangeEntityType.RESERVATION, ChangeOperation.CREATED, 3);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        //then
+        assertAll(
+                () -> assertThat(auditLog.getDropped()).isEqualTo(1),
+                () -> assertThat(waitedMillis).isGreaterThanOrEqualTo(10)
+        );
+    }
+
+    private List<AuditRecordResponse> awaitRecords(String from, String to, int expected) throws InterruptedException {
+        List<AuditRecordResponse> records = List.of();
+        for (int attempt = 0; attempt < 100 && records.size() < expected; attempt++) {
+            Thread.sleep(20);
+            records = auditLogService.find(from, to, 100);
+        }
+        return records;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
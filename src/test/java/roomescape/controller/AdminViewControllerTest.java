@@ -1,24 +1,57 @@
 package roomescape.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.BDDMockito.willThrow;
+
 import io.restassured.RestAssured;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.dao.ReservationDao;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.service.ReservationService;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 class AdminViewControllerTest {
 
     @LocalServerPort
     private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReservationDao reservationDao;
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+    @SpyBean
+    private ReservationService reservationService;
 
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
     }
 
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+    }
+
     @Test
     @DisplayName("홈 화면을 요청하면 200 OK을 응답한다.")
     void adminPageTest() {
@@ -36,4 +69,74 @@ class AdminViewControllerTest {
                 .then().log().all()
                 .statusCode(200);
     }
+
+    @Test
+    @DisplayName("예약 관리 페이지는 첫 페이지의 예약을 서버에서 그려 청크 단위로 전송한다.")
+    void serverRenderedReservationPageTest() {
+        //given
+        long timeId = reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("10:00")));
+        ReservationTime reservationTime = reservationTimeDao.findById(timeId).orElseThrow();
+        long id = reservationDao.add(new Reservation(
+                null,
+                new ReservationName("daon"),
+                ReservationDate.from("2024-04-24"),
+                reservationTime
+        ));
+
+        //when //then
+        RestAssured.given().log().all()
+                .when().get("/admin/reservation")
+                .then().log().all()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(containsString("<td>" + id + "</td>"))
+                .body(containsString("<td>daon</td>"))
+                .body(containsString("data-has-next=\"false\""));
+    }
+
+    @Test
+    @DisplayName("응답을 보내기 시작한 뒤 첫 페이지를 불러오지 못하면 표 안에 오류 행을 그린다.")
+    void serverRenderedReservationPageLoadFailureTest() {
+        //given
+        willThrow(new IllegalStateException("조회 실패")).given(reservationService).findSlice(0, 100);
+
+        //when //then
+        RestAssured.given().log().all()
+                .when().get("/admin/reservation")
+                .then().log().all()
+                .statusCode(200)
+                .body(containsString("class=\"table-load-error\""))
+                .body(containsString("data-load-failed=\"true\""))
+                .body(containsString("</html>"));
+    }
+
+    @Test
+    @DisplayName("정적 파일은 내용 해시가 포함된 주소로 제공되고 변경 불가능한 캐시 헤더를 가진다.")
+    void fingerprintedStaticResourceTest() {
+        String html = RestAssured.given().log().all()
+                .when().get("/admin/time")
+                .then().log().all()
+                .statusCode(200)
+                .extract().asString();
+        Matcher matcher = Pattern.compile("/js/time-[0-9a-f]{32}\\.js").matcher(html);
+        assertThat(matcher.find()).isTrue();
+
+        RestAssured.given().log().all()
+                .when().get(matcher.group())
+                .then().log().all()
+                .statusCode(200)
+                .header("Cache-Control", containsString("immutable"))
+                .header("Cache-Control", containsString("max-age=31536000"));
+    }
+
+    @Test
+    @DisplayName("해시가 없는 정적 파일 주소는 매번 재검증하도록 캐시 헤더를 가진다.")
+    void plainStaticResourceTest() {
+        RestAssured.given().log().all()
+                .when().get("/js/time.js")
+                .then().log().all()
+                .statusCode(200)
+                .header("Cache-Control", "no-cache")
+                .header("Cache-Control", not(containsString("immutable")));
+    }
 }
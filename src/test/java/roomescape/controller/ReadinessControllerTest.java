@@ -0,0 +1,89 @@
+package roomescape.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.warm-up.enabled=true",
+                "spring.datasource.url=jdbc:h2:mem:readiness"
+        }
+)
+class ReadinessControllerTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    @DisplayName("워밍업을 마치고 기동이 끝나면 준비 상태 확인에 200 OK를 응답한다.")
+    void readinessTest() {
+        RestAssured.given().log().all()
+                .when().get("/health/readiness")
+                .then().log().all()
+                .statusCode(200);
+    }
+
+    @Test
+    @DisplayName("워밍업이 끝나기 전에는 준비 상태 확인에 503 Service Unavailable을 응답한다.")
+    void notReadyBeforeWarmUpTest() {
+        assertThat(readinessProbe.getStatusCode()).isEqualTo(503);
+    }
+
+    @TestConfiguration
+    static class ReadinessProbeConfig {
+
+        @Bean
+        public ReadinessProbe readinessProbe(Environment environment) {
+            return new ReadinessProbe(environment);
+        }
+    }
+
+    static class ReadinessProbe implements ApplicationRunner, Ordered {
+
+        private final Environment environment;
+        private int statusCode;
+
+        ReadinessProbe(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public void run(ApplicationArguments args) {
+            int serverPort = environment.getRequiredProperty("local.server.port", Integer.class);
+            statusCode = RestAssured.given().port(serverPort)
+                    .when().get("/health/readiness")
+                    .statusCode();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        int getStatusCode() {
+            return statusCode;
+        }
+    }
+}
@@ -3,10 +3,13 @@ package roomescape.controller;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,8 +23,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationPageResponse;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSliceResponse;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.NotFoundException;
+import roomescape.exception.ServiceUnavailableException;
 import roomescape.service.ReservationService;
 
 @WebMvcTest(ReservationController.class)
@@ -55,6 +63,63 @@ class ReservationControllerTest {
                 .andExpect(jsonPath("$[1].time.startAt", is(secondStartAt)));
     }
 
+    @Test
+    @DisplayName("CBOR 형식을 요청하면 전체 예약을 CBOR로 응답한다.")
+    void getAllReservationsAsCborTest() throws Exception {
+        //given
+        List<ReservationResponse> expectedResponses = getExpectedResponses("daon", "2022-02-05", "23:22");
+        given(reservationService.findAll()).willReturn(expectedResponses);
+
+        //when //then
+        mockMvc.perform(get("/reservations").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    @DisplayName("이름으로 예약을 검색한다.")
+    void searchReservationsTest() throws Exception {
+        //given
+        ReservationPageResponse response = ReservationPageResponse.of(
+                List.of(ReservationResponse.of(1L, "daon", "2024-04-24", ReservationTimeResponse.of(1L, "10:00"))),
+                0,
+                20,
+                false
+        );
+        given(reservationService.searchByName("da", 0, 20)).willReturn(response);
+
+        //when //then
+        mockMvc.perform(get("/reservations/search").param("name", "da"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservations", hasSize(1)))
+                .andExpect(jsonPath("$.reservations[0].name", is("daon")))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
+    @Test
+    @DisplayName("주어진 아이디 이후의 예약을 페이지 단위로 조회한다.")
+    void readReservationSliceTest() throws Exception {
+        //given
+        ReservationSliceResponse response = ReservationSliceResponse.of(
+                List.of(ReservationResponse.of(3L, "daon", "2024-04-24", ReservationTimeResponse.of(1L, "10:00"))),
+                3L,
+                true
+        );
+        given(reservationService.findSlice(2L, 1)).willReturn(response);
+
+        //when //then
+        mockMvc.perform(get("/reservations/slice")
+                        .param("afterId", "2")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservations", hasSize(1)))
+                .andExpect(jsonPath("$.reservations[0].time.startAt", is("10:00")))
+                .andExpect(jsonPath("$.nextAfterId", is(3)))
+                .andExpect(jsonPath("$.hasNext", is(true)));
+    }
+
     @Test
     @DisplayName("예약을 성공적으로 추가한다.")
     void addReservationTest() throws Exception {
@@ -92,6 +157,68 @@ class ReservationControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("잘못된 값으로 예약을 추가하면 400 Bad Request를 응답한다.")
+    void addInvalidReservationTest() throws Exception {
+        //given
+        ReservationCreateRequest givenRequest = ReservationCreateRequest.of("daon", "2024-13-45", 1L);
+        given(reservationService.add(givenRequest))
+                .willThrow(new InvalidInputException("예약 날짜 형식은 yyyy-MM-dd 이어야 합니다."));
+        String givenJsonRequest = objectMapper.writeValueAsString(givenRequest);
+
+        //when //then
+        mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(givenJsonRequest))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("예약 날짜 형식은 yyyy-MM-dd 이어야 합니다.")));
+    }
+
+    @Test
+    @DisplayName("예약 쓰기 대기열이 가득 차면 503 Service Unavailable과 Retry-After를 응답한다.")
+    void addReservationWhenOverloadedTest() throws Exception {
+        //given
+        ReservationCreateRequest givenRequest = ReservationCreateRequest.of("daon", "2024-11-29", 1L);
+        given(reservationService.add(givenRequest))
+                .willThrow(new ServiceUnavailableException("예약 쓰기 대기열이 가득 찼습니다.", 1));
+        String givenJsonRequest = objectMapper.writeValueAsString(givenRequest);
+
+        //when //then
+        mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(givenJsonRequest))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message", is("예약 쓰기 대기열이 가득 찼습니다.")));
+    }
+
+    @Test
+    @DisplayName("형식이 깨진 요청 본문은 400 Bad Request를 응답한다.")
+    void addMalformedReservationTest() throws Exception {
+        //when //then
+        mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": "))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 예약을 삭제하면 404 Not Found를 응답한다.")
+    void deleteNotExistReservationTest() throws Exception {
+        //given
+        willThrow(new NotFoundException("해당 아이디를 가진 예약이 존재하지 않습니다."))
+                .given(reservationService).delete(1L);
+
+        //when //then
+        mockMvc.perform(delete("/reservations/{id}", 1))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("해당 아이디를 가진 예약이 존재하지 않습니다.")));
+    }
+
     private List<ReservationResponse> getExpectedResponses(String firstName, String secondDate, String secondStartAt) {
         return List.of(
                 ReservationResponse.of(
@@ -0,0 +1,140 @@
+package roomescape.controller.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive",
+        "roomescape.r2dbc.url=r2dbc:h2:mem:///reactive",
+        "roomescape.warm-up.enabled=false"
+})
+class ReactiveReservationControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+
+    @Test
+    @DisplayName("리액티브 스택에서 예약 시간과 예약을 추가하고 조회한다.")
+    void createAndReadAll() {
+        //given
+        long timeId = createTime("10:30");
+
+        //when
+        long reservationId = create("/reservations", ReservationCreateRequest.of("브라운", "2024-05-01", timeId));
+
+        //then
+        webTestClient.get()
+                .uri("/reservations")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[?(@.id == %d)].name".formatted(reservationId)).isEqualTo("브라운")
+                .jsonPath("$[?(@.id == %d)].time.startAt".formatted(reservationId)).isEqualTo("10:30");
+    }
+
+    @Test
+    @DisplayName("목록을 NDJSON 으로 요청하면 한 줄에 한 건씩 스트리밍한다.")
+    void readAllAsNdjson() {
+        //given
+        createTime("11:00");
+        createTime("11:30");
+
+        //when
+        List<Map> times = webTestClient.get()
+                .uri("/times")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Map.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        //then
+        assertThat(times).extracting(time -> time.get("startAt"))
+                .contains("11:00", "11:30");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 예약 시간으로 예약하면 400 을 응답한다.")
+    void createWithUnknownTime() {
+        //when //then
+        webTestClient.post()
+                .uri("/reservations")
+                .bodyValue(ReservationCreateRequest.of("브라운", "2024-05-01", 9999L))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("예약이 있는 시간을 삭제하면 409 를, 없는 예약을 삭제하면 404 를 응답한다.")
+    void delete() {
+        //given
+        long timeId = createTime("13:00");
+        long reservationId = create("/reservations", ReservationCreateRequest.of("솔라", "2024-05-02", timeId));
+
+        //when //then
+        webTestClient.delete()
+                .uri("/times/" + timeId)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+        webTestClient.delete()
+                .uri("/reservations/" + reservationId)
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete()
+                .uri("/reservations/" + reservationId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("리액티브 스택과 JDBC 스택이 같은 시퀀스에서 아이디를 받아 서로 겹치지 않는다.")
+    void shareIdSequenceWithJdbc() {
+        //given
+        long reactiveId = createTime("15:00");
+
+        //when
+        long jdbcId = reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("15:30")));
+        long nextReactiveId = createTime("16:00");
+
+        //then
+        assertThat(List.of(reactiveId, jdbcId, nextReactiveId)).doesNotHaveDuplicates();
+    }
+
+    private long createTime(String startAt) {
+        return create("/times", ReservationTimeCreateRequest.from(startAt));
+    }
+
+    private long create(String uri, Object request) {
+        Map<?, ?> body = webTestClient.post()
+                .uri(uri)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) body.get("id")).longValue();
+    }
+}
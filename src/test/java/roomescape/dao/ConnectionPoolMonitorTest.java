@@ -0,0 +1,94 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import roomescape.dao.pool.AdaptivePoolSizer;
+import roomescape.dao.pool.AdaptivePoolSizer.PoolWindow;
+import roomescape.dao.pool.ConnectionPoolMonitor;
+import roomescape.dao.pool.MonitoredPool;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.connection-pool.adaptive.enabled=true",
+                "roomescape.connection-pool.adaptive.min-size=2",
+                "roomescape.connection-pool.adaptive.max-size=16",
+                "roomescape.connection-pool.adaptive.interval-millis=1000",
+                "roomescape.connection-pool.adaptive.acquire-wait-threshold-millis=5",
+                "spring.datasource.url=jdbc:h2:mem:connection-pool"
+        }
+)
+class ConnectionPoolMonitorTest {
+
+    @Autowired
+    private ConnectionPoolMonitor connectionPoolMonitor;
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+    @Autowired
+    private AdaptivePoolSizer adaptivePoolSizer;
+
+    @Test
+    @DisplayName("JdbcTemplate이 사용하는 커넥션 풀의 획득 시간과 사용 시간을 기록한다.")
+    void recordAcquireAndUsage() {
+        //given
+        MonitoredPool pool = connectionPoolMonitor.findAll().get(0);
+        long acquiredBefore = pool.getMetrics().getAcquireTime().getCount();
+
+        //when
+        reservationTimeDao.findAll();
+
+        //then
+        assertAll(
+                () -> assertThat(pool.getName()).isEqualTo("dataSource"),
+                () -> assertThat(pool.getMetrics().getAcquireTime().getCount()).isGreaterThan(acquiredBefore),
+                () -> assertThat(pool.getMetrics().getUsageTime().getCount()).isPositive(),
+                () -> assertThat(pool.getLeakDetectionThresholdMillis()).isEqualTo(2000)
+        );
+    }
+
+    @Test
+    @DisplayName("커넥션 획득 대기가 기준을 넘으면 풀을 키운다.")
+    void growWhenAcquireWaitIsHigh() {
+        //given
+        PoolWindow slowAcquire = new PoolWindow(100, 100 * 20_000, 1_000_000);
+
+        //when
+        int target = adaptivePoolSizer.targetSize(8, 0, slowAcquire);
+
+        //then
+        assertThat(target).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("대기 스레드가 있으면 최대 크기까지만 키운다.")
+    void growUpToMaxSize() {
+        //when
+        int target = adaptivePoolSizer.targetSize(16, 3, new PoolWindow(0, 0, 0));
+
+        //then
+        assertThat(target).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("대기가 없으면 쿼리 시간으로 추정한 필요 개수까지 한 개씩 줄인다.")
+    void shrinkTowardsLoad() {
+        //given
+        PoolWindow idle = new PoolWindow(100, 100 * 50, 4_000_000);
+
+        //when
+        int shrinking = adaptivePoolSizer.targetSize(10, 0, idle);
+        int atLoad = adaptivePoolSizer.targetSize(6, 0, idle);
+
+        //then
+        assertAll(
+                () -> assertThat(shrinking).isEqualTo(9),
+                () -> assertThat(atLoad).isEqualTo(6)
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.service.ReservationTimeService;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.datasource.routing.enabled=true",
+                "spring.datasource.url=jdbc:h2:mem:routing-primary",
+                "roomescape.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+                "roomescape.datasource.replica.initialize-schema=true",
+                "roomescape.datasource.routing.read-your-writes-millis=200"
+        }
+)
+class DataSourceRoutingTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+    private JdbcTemplate primaryJdbcTemplate;
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.update("INSERT INTO reservation_time (start_at) VALUES ('09:00')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryJdbcTemplate.update("DELETE FROM reservation_time");
+        replicaJdbcTemplate.update("DELETE FROM reservation_time");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회는 읽기 데이터베이스로 전달된다.")
+    void readFromReplica() {
+        //when //then
+        assertThat(reservationTimeDao.findAll())
+                .extracting(time -> time.getStartAt().toStringTime())
+                .containsExactly("09:00");
+    }
+
+    @Test
+    @DisplayName("쓰기와 쓰기 직후 조회는 주 데이터베이스로 전달된다.")
+    void writeToPrimary() {
+        //when
+        ReservationTimeResponse result = reservationTimeService.add(ReservationTimeCreateRequest.from("10:00"));
+
+        //then
+        Integer primaryCount = primaryJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_time", Integer.class);
+        assertAll(
+                () -> assertThat(result.getStartAt()).isEqualTo("10:00"),
+                () -> assertThat(primaryCount).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("최근에 쓰기가 없으면 여러 요청을 합쳐서 불러오는 전체 예약 시간 조회는 읽기 데이터베이스에서 읽는다.")
+    void coalescedFindAllFromReplica() throws InterruptedException {
+        //given
+        Thread.sleep(250);
+
+        //when
+        List<ReservationTimeResponse> result = reservationTimeService.findAll();
+
+        //then
+        assertThat(result).extracting(ReservationTimeResponse::getStartAt)
+                .containsExactly("09:00");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 잠깐 동안은 전체 예약 시간 조회가 주 데이터베이스에서 읽어 방금 쓴 내용을 본다.")
+    void coalescedFindAllReadsYourWrites() {
+        //given
+        reservationTimeService.add(ReservationTimeCreateRequest.from("10:00"));
+
+        //when
+        List<ReservationTimeResponse> result = reservationTimeService.findAll();
+
+        //then
+        assertThat(result).extracting(ReservationTimeResponse::getStartAt)
+                .containsExactly("10:00");
+    }
+}
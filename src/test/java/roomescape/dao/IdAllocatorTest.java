@@ -0,0 +1,100 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.dao.id.IdAllocator;
+import roomescape.dao.id.IdSequence;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.dao.routing.ShardSelector;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.datasource.sharding.enabled=true",
+                "roomescape.datasource.sharding.count=2",
+                "roomescape.id-allocation.block-size=10",
+                "spring.datasource.url=jdbc:h2:mem:id-allocation-0",
+                "roomescape.datasource.sharding.url-template=jdbc:h2:mem:id-allocation-%d;DB_CLOSE_DELAY=-1"
+        }
+)
+class IdAllocatorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ShardSelector shardSelector;
+    @Autowired
+    private IdAllocator idAllocator;
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardSelector.count(); shard++) {
+            ShardRoute.on(shard, () -> jdbcTemplate.update("DELETE FROM reservation_time"));
+            idAllocator.align(shard);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 받아도 아이디가 겹치지 않고 모두 해당 샤드의 아이디다.")
+    void allocateConcurrently() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> ShardRoute.on(
+                    1,
+                    () -> idAllocator.next(IdSequence.RESERVATION_TIME, 500)
+            )));
+        }
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get());
+        }
+        executor.shutdown();
+
+        //then
+        assertAll(
+                () -> assertThat(ids).hasSize(8 * 500),
+                () -> assertThat(ids).allMatch(id -> shardSelector.ofId(id) == 1)
+        );
+    }
+
+    @Test
+    @DisplayName("다시 맞추면 테이블에 이미 있는 가장 큰 아이디 이후부터 발급한다.")
+    void alignAfterExistingRows() {
+        //given
+        ShardRoute.on(0, () -> jdbcTemplate.update(
+                "INSERT INTO reservation_time (id, room_id, start_at) VALUES (?, ?, ?)",
+                1001,
+                0,
+                "10:00"
+        ));
+
+        //when
+        idAllocator.align(0);
+        long id = ShardRoute.on(0, () -> idAllocator.next(IdSequence.RESERVATION_TIME));
+
+        //then
+        assertAll(
+                () -> assertThat(id).isGreaterThan(1001),
+                () -> assertThat(shardSelector.ofId(id)).isEqualTo(0)
+        );
+    }
+}
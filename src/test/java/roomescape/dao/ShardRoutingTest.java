@@ -0,0 +1,134 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.RoomescapeApplication;
+import roomescape.dao.routing.ShardRoute;
+import roomescape.dao.routing.ShardSelector;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.service.ReservationService;
+import roomescape.service.ReservationTimeService;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.datasource.sharding.enabled=true",
+                "roomescape.datasource.sharding.count=2",
+                "spring.datasource.url=jdbc:h2:mem:sharding-0",
+                "roomescape.datasource.sharding.url-template=jdbc:h2:mem:sharding-%d;DB_CLOSE_DELAY=-1"
+        }
+)
+class ShardRoutingTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ShardSelector shardSelector;
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+    @Autowired
+    private ReservationService reservationService;
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardSelector.count(); shard++) {
+            ShardRoute.on(shard, () -> {
+                jdbcTemplate.update("DELETE FROM reservation");
+                return jdbcTemplate.update("DELETE FROM reservation_time");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("방 아이디에 따라 예약 시간과 예약이 서로 다른 샤드에 저장된다.")
+    void writeToRoomShard() {
+        //given
+        ReservationTimeResponse evenRoomTime = reservationTimeService.add(ReservationTimeCreateRequest.of("10:00", 2L));
+        ReservationTimeResponse oddRoomTime = reservationTimeService.add(ReservationTimeCreateRequest.of("11:00", 3L));
+
+        //when
+        reservationService.add(ReservationCreateRequest.of("daon", "2024-04-24", evenRoomTime.getId()));
+        reservationService.add(ReservationCreateRequest.of("ikjo", "2024-04-24", oddRoomTime.getId()));
+
+        //then
+        assertAll(
+                () -> assertThat(countReservations(0)).isEqualTo(1),
+                () -> assertThat(countReservations(1)).isEqualTo(1),
+                () -> assertThat(shardSelector.ofId(evenRoomTime.getId())).isEqualTo(0),
+                () -> assertThat(shardSelector.ofId(oddRoomTime.getId())).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("관리자 목록 조회는 모든 샤드의 결과를 모은다.")
+    void gatherFromEveryShard() {
+        //given
+        ReservationTimeResponse evenRoomTime = reservationTimeService.add(ReservationTimeCreateRequest.of("10:00", 2L));
+        ReservationTimeResponse oddRoomTime = reservationTimeService.add(ReservationTimeCreateRequest.of("11:00", 3L));
+        reservationService.add(ReservationCreateRequest.of("daon", "2024-04-24", evenRoomTime.getId()));
+        reservationService.add(ReservationCreateRequest.of("ikjo", "2024-04-24", oddRoomTime.getId()));
+
+        //when
+        List<ReservationTimeResponse> times = reservationTimeService.findAll();
+        List<ReservationResponse> reservations = reservationService.findAll();
+
+        //then
+        assertAll(
+                () -> assertThat(times).extracting(ReservationTimeResponse::getRoomId).containsExactlyInAnyOrder(2L, 3L),
+                () -> assertThat(reservations).extracting(ReservationResponse::getName)
+                        .containsExactlyInAnyOrder("daon", "ikjo")
+        );
+    }
+
+    @Test
+    @DisplayName("아이디로 삭제하면 해당 아이디가 저장된 샤드에서 삭제된다.")
+    void deleteFromOwningShard() {
+        //given
+        ReservationTimeResponse oddRoomTime = reservationTimeService.add(ReservationTimeCreateRequest.of("11:00", 3L));
+        ReservationResponse reservation = reservationService.add(
+                ReservationCreateRequest.of("ikjo", "2024-04-24", oddRoomTime.getId())
+        );
+
+        //when
+        reservationService.delete(reservation.getId());
+
+        //then
+        assertThat(countReservations(1)).isZero();
+    }
+
+    private int countReservations(int shard) {
+        return ShardRoute.on(shard, () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation", Integer.class));
+    }
+
+    @Test
+    @DisplayName("샤딩과 읽기/쓰기 분리 라우팅을 함께 켜면 기동에 실패한다.")
+    void rejectShardingWithReadWriteRouting() {
+        //given
+        SpringApplication application = new SpringApplication(RoomescapeApplication.class);
+
+        //when //then
+        assertThatThrownBy(() -> application.run(
+                "--server.port=0",
+                "--roomescape.warm-up.enabled=false",
+                "--roomescape.datasource.sharding.enabled=true",
+                "--roomescape.datasource.routing.enabled=true",
+                "--spring.datasource.url=jdbc:h2:mem:rejected-sharding-0"
+        )).hasRootCauseInstanceOf(IllegalStateException.class)
+                .rootCause()
+                .hasMessageContaining("함께 사용할 수 없습니다");
+    }
+}
@@ -0,0 +1,137 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import roomescape.dao.slowquery.SlowQuery;
+import roomescape.dao.slowquery.SlowQueryLog;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.slow-query.threshold-millis=0",
+                "roomescape.slow-query.capacity=2",
+                "roomescape.warm-up.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:slow-query"
+        }
+)
+class SlowQueryRecorderTest {
+
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        slowQueryLog.clear();
+    }
+
+    @Test
+    @DisplayName("기준 시간을 넘긴 조회 쿼리는 파라미터와 실행 계획과 함께 기록된다.")
+    void recordSlowQuery() throws InterruptedException {
+        //given
+        long id = reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("10:00")));
+
+        //when
+        reservationTimeDao.findById(id);
+
+        //then
+        SlowQuery recent = awaitRecent(queries -> !queries.isEmpty()
+                && queries.get(0).getSql().contains("FROM reservation_time")).get(0);
+        assertAll(
+                () -> assertThat(recent.getParameters()).containsExactly(String.valueOf(id)),
+                () -> assertThat(recent.getRowCount()).isEqualTo(1),
+                () -> assertThat(recent.getPlan()).isNotBlank()
+        );
+    }
+
+    @Test
+    @DisplayName("최근 느린 쿼리는 정해진 개수만큼만 보관한다.")
+    void keepRecentSlowQueries() throws InterruptedException {
+        //when
+        reservationTimeDao.findAll();
+        reservationTimeDao.exist(1L);
+        reservationTimeDao.findAll();
+
+        //then
+        List<SlowQuery> recent = awaitRecent(queries -> queries.size() == 2
+                && !queries.get(0).getSql().contains("EXISTS")
+                && queries.get(1).getSql().contains("EXISTS"));
+        assertAll(
+                () -> assertThat(recent).hasSize(2),
+                () -> assertThat(recent.get(0).getSql()).doesNotContain("EXISTS"),
+                () -> assertThat(recent.get(1).getSql()).contains("EXISTS")
+        );
+    }
+
+    @Test
+    @DisplayName("커넥션 콜백 안에서 묶어 실행한 쿼리도 기록된다.")
+    void recordBatchInConnectionCallback() throws InterruptedException {
+        //when
+        reservationTimeDao.addAll(List.of(
+                new ReservationTime(null, ReservationStartAt.from("10:00")),
+                new ReservationTime(null, ReservationStartAt.from("11:00"))
+        ));
+
+        //then
+        SlowQuery recent = awaitRecent(queries -> !queries.isEmpty()
+                && queries.get(0).getSql().startsWith("INSERT")).get(0);
+        assertThat(recent.getRowCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("행 콜백으로 읽은 쿼리도 읽은 행 수와 함께 기록된다.")
+    void recordRowCallbackQuery() throws InterruptedException {
+        //given
+        reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("10:00")));
+
+        //when
+        jdbcTemplate.query("SELECT start_at FROM reservation_time", (RowCallbackHandler) resultSet -> {
+        });
+
+        //then
+        SlowQuery recent = awaitRecent(queries -> !queries.isEmpty()
+                && queries.get(0).getSql().equals("SELECT start_at FROM reservation_time")).get(0);
+        assertThat(recent.getRowCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 시퀀스 조회는 실행하지 않는 실행 계획만 떠서 시퀀스를 더 넘기지 않는다.")
+    void explainSequenceFetchWithoutAdvancing() throws InterruptedException {
+        //given
+        String sql = "SELECT NEXT VALUE FOR reservation_time_id_seq";
+        long first = jdbcTemplate.queryForObject(sql, Long.class);
+        awaitRecent(queries -> !queries.isEmpty() && queries.get(0).getSql().equals(sql));
+
+        //when
+        long second = jdbcTemplate.queryForObject(sql, Long.class);
+
+        //then
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    private List<SlowQuery> awaitRecent(Predicate<List<SlowQuery>> condition) throws InterruptedException {
+        List<SlowQuery> recent = slowQueryLog.findRecent();
+        for (int attempt = 0; attempt < 100 && !condition.test(recent); attempt++) {
+            Thread.sleep(20);
+            recent = slowQueryLog.findRecent();
+        }
+        return recent;
+    }
+}
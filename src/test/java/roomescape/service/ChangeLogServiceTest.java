@@ -0,0 +1,181 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.dao.ChangeLogDao;
+import roomescape.domain.changelog.ChangeLog;
+import roomescape.dto.changelog.ChangeLogResponse;
+import roomescape.dto.changelog.ChangesResponse;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.exception.InvalidInputException;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class ChangeLogServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private ChangeLogService changeLogService;
+    @Autowired
+    private ChangeLogDao changeLogDao;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    private long since;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM change_log");
+        jdbcTemplate.update("UPDATE change_log_watermark SET compacted_through = 0");
+        since = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        jdbcTemplate.update("DELETE FROM change_log");
+        jdbcTemplate.update("UPDATE change_log_watermark SET compacted_through = 0");
+    }
+
+    @Test
+    @DisplayName("예약 시간과 예약의 생성, 삭제가 순서대로 변경 이력에 남는다.")
+    void findChanges() {
+        //given
+        ReservationTimeResponse time = reservationTimeService.add(ReservationTimeCreateRequest.from("10:00"));
+        ReservationResponse reservation = reservationService.add(
+                ReservationCreateRequest.of("daon", "2024-04-24", time.getId())
+        );
+        reservationService.delete(reservation.getId());
+
+        //when
+        ChangesResponse result = changeLogService.findChanges(since, 100);
+        List<ChangeLogResponse> changes = result.getChanges();
+
+        //then
+        assertAll(
+                () -> assertThat(changes).extracting(ChangeLogResponse::getEntityType)
+                        .containsExactly("RESERVATION_TIME", "RESERVATION", "RESERVATION"),
+                () -> assertThat(changes).extracting(ChangeLogResponse::getOperation)
+                        .containsExactly("CREATED", "CREATED", "DELETED"),
+                () -> assertThat(changes.get(1).getName()).isEqualTo("daon"),
+                () -> assertThat(changes.get(1).getStartAt()).isEqualTo("10:00"),
+                () -> assertThat(result.getLastSeq()).isEqualTo(changes.get(2).getSeq()),
+                () -> assertThat(result.isHasMore()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 번호 이후의 변경 이력만 조회한다.")
+    void findChangesAfterSeq() {
+        //given
+        reservationTimeService.add(ReservationTimeCreateRequest.from("10:00"));
+        reservationTimeService.add(ReservationTimeCreateRequest.from("11:00"));
+        reservationTimeService.add(ReservationTimeCreateRequest.from("12:00"));
+        ChangesResponse first = changeLogService.findChanges(since, 2);
+
+        //when
+        ChangesResponse second = changeLogService.findChanges(first.getLastSeq(), 2);
+
+        //then
+        assertAll(
+                () -> assertThat(first.getChanges()).hasSize(2),
+                () -> assertThat(first.isHasMore()).isTrue(),
+                () -> assertThat(second.getChanges()).extracting(ChangeLogResponse::getStartAt)
+                        .containsExactly("12:00"),
+                () -> assertThat(second.isHasMore()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("먼저 번호를 받은 변경 이력이 커밋되기 전에는 뒤의 변경 이력도 보이지 않는다.")
+    void appendInCommitOrder() throws Exception {
+        //given
+        CountDownLatch firstAppended = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            changeLogDao.append(ChangeLog.reservationTimeDeleted(1L));
+            firstAppended.countDown();
+            awaitQuietly(releaseFirst);
+        }));
+        firstAppended.await();
+        Future<?> second = executor.submit(() -> transactionTemplate.executeWithoutResult(
+                status -> changeLogDao.append(ChangeLog.reservationTimeDeleted(2L))
+        ));
+
+        //when
+        Thread.sleep(200);
+        List<ChangeLogResponse> beforeFirstCommit = changeLogService.findChanges(since, 100).getChanges();
+        releaseFirst.countDown();
+        first.get();
+        second.get();
+        executor.shutdown();
+        List<ChangeLogResponse> afterCommit = changeLogService.findChanges(since, 100).getChanges();
+
+        //then
+        assertAll(
+                () -> assertThat(beforeFirstCommit).isEmpty(),
+                () -> assertThat(afterCommit).extracting(ChangeLogResponse::getEntityId)
+                        .containsExactly(1L, 2L)
+        );
+    }
+
+    @Test
+    @DisplayName("압축된 구간 이전 번호로 조회하면 전체 재동기화가 필요하다고 응답한다.")
+    void findChangesAfterCompaction() {
+        //given
+        reservationTimeService.add(ReservationTimeCreateRequest.from("10:00"));
+        reservationTimeService.add(ReservationTimeCreateRequest.from("11:00"));
+        int compacted = changeLogService.compactBefore(Instant.now().plus(1, ChronoUnit.MINUTES));
+
+        //when
+        ChangesResponse result = changeLogService.findChanges(since, 100);
+
+        //then
+        assertAll(
+                () -> assertThat(compacted).isEqualTo(2),
+                () -> assertThat(result.isResyncRequired()).isTrue(),
+                () -> assertThat(result.getChanges()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("조회 개수가 범위를 벗어나면 예외를 발생시킨다.")
+    void findChangesWithInvalidLimit() {
+        assertThatThrownBy(() -> changeLogService.findChanges(since, 0))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
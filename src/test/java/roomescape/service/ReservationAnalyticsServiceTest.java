@@ -0,0 +1,113 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import roomescape.dto.analytics.DailyCountResponse;
+import roomescape.dto.analytics.SlotCountResponse;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
+import roomescape.exception.InvalidInputException;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analytics",
+        "roomescape.warm-up.enabled=false"
+})
+class ReservationAnalyticsServiceTest {
+
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private ChangeLogService changeLogService;
+    @Autowired
+    private ReservationAnalyticsService reservationAnalyticsService;
+
+    @Test
+    @DisplayName("예약을 날짜별, 시간별로 집계하고 이름으로 거른다.")
+    void countByDayAndSlot() {
+        //given
+        long morning = reservationTimeService.add(ReservationTimeCreateRequest.from("10:00")).getId();
+        long evening = reservationTimeService.add(ReservationTimeCreateRequest.from("19:30")).getId();
+        reservationService.add(ReservationCreateRequest.of("daon", "2030-01-01", morning));
+        reservationService.add(ReservationCreateRequest.of("ikjo", "2030-01-01", evening));
+        reservationService.add(ReservationCreateRequest.of("daon", "2030-01-03", evening));
+
+        //when
+        List<DailyCountResponse> daily = reservationAnalyticsService.countByDay("2030-01-01", "2030-01-03", null);
+        List<DailyCountResponse> daonDaily = reservationAnalyticsService.countByDay("2030-01-01", "2030-01-03", "daon");
+        List<SlotCountResponse> slots = reservationAnalyticsService.countBySlot("2030-01-01", "2030-01-03");
+
+        //then
+        assertThat(daily).extracting(DailyCountResponse::getDate, DailyCountResponse::getCount)
+                .containsExactly(
+                        tuple("2030-01-01", 2),
+                        tuple("2030-01-02", 0),
+                        tuple("2030-01-03", 1)
+                );
+        assertThat(daonDaily).extracting(DailyCountResponse::getCount)
+                .containsExactly(1, 0, 1);
+        assertThat(slots).extracting(SlotCountResponse::getStartAt, SlotCountResponse::getCount)
+                .containsExactly(
+                        tuple("10:00", 1),
+                        tuple("19:30", 2)
+                );
+        assertThat(reservationAnalyticsService.count("2030-01-01", "2030-01-03", "19:00", null, null, "daon")
+                .getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기가 커밋되면 다음 집계에 바로 반영된다.")
+    void reflectWrites() {
+        //given
+        long timeId = reservationTimeService.add(ReservationTimeCreateRequest.from("11:00")).getId();
+        ReservationResponse first = reservationService.add(ReservationCreateRequest.of("solar", "2031-02-01", timeId));
+        assertThat(reservationAnalyticsService.count("2031-02-01", "2031-02-01", null, null, null, null)
+                .getCount()).isEqualTo(1);
+
+        //when
+        reservationService.add(ReservationCreateRequest.of("brown", "2031-02-01", timeId));
+        reservationService.delete(first.getId());
+
+        //then
+        assertThat(reservationAnalyticsService.count("2031-02-01", "2031-02-01", null, null, null, null)
+                .getCount()).isEqualTo(1);
+        assertThat(reservationAnalyticsService.count("2031-02-01", "2031-02-01", null, null, timeId, "brown")
+                .getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경 이력이 압축되어 따라잡을 수 없으면 전체를 다시 적재한다.")
+    void rebuildAfterCompaction() {
+        //given
+        long timeId = reservationTimeService.add(ReservationTimeCreateRequest.from("12:00")).getId();
+        reservationService.add(ReservationCreateRequest.of("pobi", "2032-03-01", timeId));
+        reservationAnalyticsService.getStats();
+        reservationService.add(ReservationCreateRequest.of("neo", "2032-03-01", timeId));
+
+        //when
+        changeLogService.compactBefore(Instant.now().plus(1, ChronoUnit.DAYS));
+
+        //then
+        assertThat(reservationAnalyticsService.count("2032-03-01", "2032-03-01", null, null, null, null)
+                .getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 시작 날짜가 종료 날짜보다 늦으면 예외가 발생한다.")
+    void invalidRange() {
+        //when //then
+        assertThatThrownBy(() -> reservationAnalyticsService.countByDay("2030-01-02", "2030-01-01", null))
+                .isInstanceOf(InvalidInputException.class);
+    }
+}
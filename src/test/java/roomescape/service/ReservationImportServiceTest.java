@@ -0,0 +1,104 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.reservation-import.batch-size=2",
+                "spring.datasource.url=jdbc:h2:mem:reservation-import"
+        }
+)
+class ReservationImportServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+    @Autowired
+    private ReservationImportService reservationImportService;
+    private long timeId;
+
+    @BeforeEach
+    void setUp() {
+        timeId = reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("10:00")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+    }
+
+    @Test
+    @DisplayName("올바른 줄은 배치로 저장하고 잘못된 줄은 줄 번호와 함께 보고한다.")
+    void importCsv() throws IOException {
+        //given
+        String csv = String.join("\n",
+                "name,date,timeId",
+                "daon,2024-04-24," + timeId,
+                "ikjo,2024-13-01," + timeId,
+                "brown,2024-04-25,abc",
+                "solar,2024-04-26," + timeId,
+                "pobi,2024-04-27",
+                "neo,2024-04-28,-1",
+                "",
+                "jason,2024-04-29," + timeId
+        );
+
+        //when
+        List<String> report = importCsv(csv);
+
+        //then
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation", Integer.class);
+        assertAll(
+                () -> assertThat(count).isEqualTo(3),
+                () -> assertThat(report).hasSize(5),
+                () -> assertThat(report.get(0)).startsWith("{\"line\":3,"),
+                () -> assertThat(report.get(1)).startsWith("{\"line\":4,"),
+                () -> assertThat(report.get(2)).startsWith("{\"line\":6,"),
+                () -> assertThat(report.get(3)).startsWith("{\"line\":7,"),
+                () -> assertThat(report.get(4)).isEqualTo("{\"imported\":3,\"failed\":4}")
+        );
+    }
+
+    @Test
+    @DisplayName("머리글이 없는 파일도 첫 줄부터 가져온다.")
+    void importCsvWithoutHeader() throws IOException {
+        //given
+        String csv = "daon,2024-04-24," + timeId + "\n";
+
+        //when
+        List<String> report = importCsv(csv);
+
+        //then
+        assertThat(report).containsExactly("{\"imported\":1,\"failed\":0}");
+    }
+
+    private List<String> importCsv(String csv) throws IOException {
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        reservationImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                report
+        );
+        return report.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -20,8 +20,13 @@ import roomescape.domain.reservation.ReservationDate;
 import roomescape.domain.reservation.ReservationName;
 import roomescape.domain.reservationtime.ReservationStartAt;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.ReservationCalendarResponse;
 import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationPageResponse;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSliceResponse;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.NotFoundException;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 class ReservationServiceTest {
@@ -40,7 +45,7 @@ class ReservationServiceTest {
     @BeforeEach
     void setUp() {
         timeId = reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("12:02")));
-        reservationTime = reservationTimeDao.findById(timeId);
+        reservationTime = reservationTimeDao.findById(timeId).orElseThrow();
         Reservation daon = new Reservation(
                 null,
                 new ReservationName("daon"),
@@ -77,6 +82,93 @@ class ReservationServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("주어진 아이디 이후의 예약을 아이디 순서대로 잘라서 조회한다.")
+    void findSlice() {
+        //given
+        ReservationSliceResponse first = reservationService.findSlice(0, 1);
+
+        //when
+        ReservationSliceResponse second = reservationService.findSlice(first.getNextAfterId(), 1);
+
+        //then
+        assertAll(
+                () -> assertThat(first.getReservations().get(0).getName()).isEqualTo("daon"),
+                () -> assertThat(first.isHasNext()).isTrue(),
+                () -> assertThat(second.getReservations().get(0).getName()).isEqualTo("ikjo"),
+                () -> assertThat(second.isHasNext()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("조회 시작 아이디가 음수이면 예외가 발생한다.")
+    void findSliceWithNegativeCursor() {
+        //when //then
+        assertThatThrownBy(() -> reservationService.findSlice(-1, 10))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("이름의 앞부분으로 대소문자 구분 없이 예약을 검색한다.")
+    void searchByName() {
+        //when
+        ReservationPageResponse result = reservationService.searchByName("DA", 0, 10);
+
+        //then
+        assertAll(
+                () -> assertThat(result.getReservations()).hasSize(1),
+                () -> assertThat(result.getReservations().get(0).getName()).isEqualTo("daon"),
+                () -> assertThat(result.isHasNext()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("검색 결과가 페이지 크기보다 많으면 다음 페이지가 있음을 알려준다.")
+    void searchByNameWithNextPage() {
+        //given
+        addAndGetId();
+        addAndGetId();
+
+        //when
+        ReservationPageResponse result = reservationService.searchByName("3", 0, 1);
+
+        //then
+        assertAll(
+                () -> assertThat(result.getReservations()).hasSize(1),
+                () -> assertThat(result.isHasNext()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("검색할 이름이 비어있으면 예외가 발생한다.")
+    void searchByBlankName() {
+        //when //then
+        assertThatThrownBy(() -> reservationService.searchByName(" ", 0, 10))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("기간 내 날짜별 시간대 예약 현황을 조회한다.")
+    void getCalendar() {
+        //when
+        ReservationCalendarResponse result = reservationService.getCalendar("2024-04-23", "2024-04-25");
+
+        //then
+        assertAll(
+                () -> assertThat(result.getDates()).containsExactly("2024-04-23", "2024-04-24", "2024-04-25"),
+                () -> assertThat(result.getTimes()).hasSize(1),
+                () -> assertThat(result.getCounts()).isDeepEqualTo(new int[][]{{0}, {1}, {0}})
+        );
+    }
+
+    @Test
+    @DisplayName("조회 시작 날짜가 종료 날짜보다 늦으면 예외가 발생한다.")
+    void getCalendarWithReversedRange() {
+        //when //then
+        assertThatThrownBy(() -> reservationService.getCalendar("2024-04-25", "2024-04-23"))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
     @Test
     @DisplayName("예약을 추가한다.")
     void add() {
@@ -107,7 +199,7 @@ class ReservationServiceTest {
 
         //when //then
         assertThatThrownBy(() -> reservationService.add(givenRequest))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(InvalidInputException.class);
     }
 
     @Test
@@ -131,7 +223,7 @@ class ReservationServiceTest {
 
         //when //then
         assertThatThrownBy(() -> reservationService.delete(givenId))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(InvalidInputException.class);
     }
 
     @Test
@@ -142,7 +234,7 @@ class ReservationServiceTest {
 
         //when //then
         assertThatThrownBy(() -> reservationService.delete(givenId))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(NotFoundException.class);
     }
 
     private long addAndGetId() {
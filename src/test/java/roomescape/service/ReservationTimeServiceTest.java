@@ -3,6 +3,8 @@ package roomescape.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willReturn;
 
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -12,19 +14,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.jdbc.core.JdbcTemplate;
 import roomescape.dao.ReservationTimeDao;
 import roomescape.domain.reservationtime.ReservationStartAt;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservationtime.ReservationTimeBulkCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.exception.ConflictException;
+import roomescape.exception.InvalidInputException;
+import roomescape.exception.NotFoundException;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 class ReservationTimeServiceTest {
 
     @Autowired
     private JdbcTemplate jdbcTemplate;
-    @Autowired
+    @SpyBean
     private ReservationTimeDao reservationTimeDao;
     @Autowired
     private ReservationTimeService reservationTimeService;
@@ -72,6 +79,64 @@ class ReservationTimeServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("시작, 종료 시간과 간격으로 예약 시간을 한 번에 추가하고 이미 있는 시간은 건너뛴다.")
+    void addAll() {
+        //given
+        ReservationTimeBulkCreateRequest request = ReservationTimeBulkCreateRequest.of("12:00", "13:00", 21);
+
+        //when
+        List<ReservationTimeResponse> results = reservationTimeService.addAll(request);
+
+        //then
+        assertAll(
+                () -> assertThat(results).extracting(ReservationTimeResponse::getStartAt)
+                        .containsExactly("12:00", "12:21"),
+                () -> assertThat(results).allMatch(result -> result.getId() != null),
+                () -> assertThat(reservationTimeService.findAll()).hasSize(4)
+        );
+    }
+
+    @Test
+    @DisplayName("일괄 추가 도중 다른 요청이 같은 시간을 먼저 추가하면 이미 있는 시간으로 보고 나머지만 추가한다.")
+    void addAllRacingWithOtherInsert() {
+        //given
+        willReturn(List.of()).willCallRealMethod().given(reservationTimeDao).findByRoomId(anyLong());
+        ReservationTimeBulkCreateRequest request = ReservationTimeBulkCreateRequest.of("12:00", "13:00", 21);
+
+        //when
+        List<ReservationTimeResponse> results = reservationTimeService.addAll(request);
+
+        //then
+        assertAll(
+                () -> assertThat(results).extracting(ReservationTimeResponse::getStartAt)
+                        .containsExactly("12:00", "12:21"),
+                () -> assertThat(reservationTimeService.findAll()).hasSize(4)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 방에 이미 있는 예약 시간을 추가하면 예외가 발생한다.")
+    void addDuplicate() {
+        //given
+        ReservationTimeCreateRequest request = ReservationTimeCreateRequest.from("12:02");
+
+        //when //then
+        assertThatThrownBy(() -> reservationTimeService.add(request))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    @DisplayName("예약 시간 일괄 추가시 시작 시간이 종료 시간보다 늦으면 예외가 발생한다.")
+    void addAllWithReversedRange() {
+        //given
+        ReservationTimeBulkCreateRequest request = ReservationTimeBulkCreateRequest.of("13:00", "12:00", 30);
+
+        //when //then
+        assertThatThrownBy(() -> reservationTimeService.addAll(request))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
     @Test
     @DisplayName("예약 시간을 삭제한다.")
     void delete() {
@@ -93,7 +158,7 @@ class ReservationTimeServiceTest {
 
         //when //then
         assertThatThrownBy(() -> reservationTimeService.delete(givenId))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(InvalidInputException.class);
     }
 
     @Test
@@ -104,7 +169,7 @@ class ReservationTimeServiceTest {
 
         //when //then
         assertThatThrownBy(() -> reservationTimeService.delete(givenId))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(NotFoundException.class);
     }
 
     private long addAndGetId() {
@@ -0,0 +1,110 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.dao.ReservationDao;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.write-pipeline.enabled=true",
+                "spring.datasource.url=jdbc:h2:mem:write-pipeline"
+        }
+)
+class ReservationWritePipelineTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReservationDao reservationDao;
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+    @Autowired
+    private ReservationWritePipeline reservationWritePipeline;
+    private ReservationTime reservationTime;
+
+    @BeforeEach
+    void setUp() {
+        long timeId = reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("12:02")));
+        reservationTime = reservationTimeDao.findById(timeId).orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+    }
+
+    @Test
+    @DisplayName("동시에 요청된 예약을 모아서 저장하고 각 요청에 고유한 아이디를 돌려준다.")
+    void submitConcurrently() {
+        //given
+        int count = 200;
+
+        //when
+        List<CompletableFuture<Long>> futures = IntStream.range(0, count)
+                .parallel()
+                .mapToObj(i -> reservationWritePipeline.submit(createReservation("name" + i)))
+                .toList();
+        List<Long> ids = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        //then
+        assertAll(
+                () -> assertThat(ids).doesNotHaveDuplicates(),
+                () -> assertThat(reservationDao.findAll()).hasSize(count)
+        );
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 예약은 해당 요청에만 예외를 전달한다.")
+    void submitWithInvalidReservation() {
+        //given
+        ReservationTime notExistTime = new ReservationTime(-1L, ReservationStartAt.from("10:00"));
+        Reservation invalid = new Reservation(
+                null,
+                new ReservationName("invalid"),
+                ReservationDate.from("2024-04-24"),
+                notExistTime
+        );
+
+        //when
+        CompletableFuture<Long> failed = reservationWritePipeline.submit(invalid);
+        CompletableFuture<Long> succeeded = reservationWritePipeline.submit(createReservation("daon"));
+
+        //then
+        assertAll(
+                () -> assertThat(succeeded.join()).isNotNull(),
+                () -> assertThat(failed).failsWithin(Duration.ofSeconds(5))
+        );
+    }
+
+    private Reservation createReservation(String name) {
+        return new Reservation(
+                null,
+                new ReservationName(name),
+                ReservationDate.from("2024-04-24"),
+                reservationTime
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 조회는 진행 중인 하나의 조회 결과를 공유한다.")
+    void coalesceConcurrentCalls() throws Exception {
+        //given
+        SingleFlight<Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> leader = executor.submit(() -> singleFlight.execute(() -> {
+            started.countDown();
+            await(release);
+            return loads.incrementAndGet();
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        //when
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(loads::incrementAndGet)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        //then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        for (Future<Integer> follower : followers) {
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 이후에 들어온 조회는 진행 중인 조회에 합류하지 않고 새로 조회한다.")
+    void invalidate() throws Exception {
+        //given
+        SingleFlight<Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> stale = executor.submit(() -> singleFlight.execute(() -> {
+            started.countDown();
+            await(release);
+            return loads.incrementAndGet();
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        //when
+        singleFlight.invalidate();
+        int fresh = singleFlight.execute(() -> loads.incrementAndGet() + 100);
+        release.countDown();
+
+        //then
+        assertThat(fresh).isEqualTo(101);
+        assertThat(stale.get(1, TimeUnit.SECONDS)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 예외를 던지고, 다음 조회는 새로 시도한다.")
+    void failure() {
+        //given
+        SingleFlight<Integer> singleFlight = new SingleFlight<>();
+
+        //when //then
+        assertThatThrownBy(() -> singleFlight.execute(() -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute(() -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
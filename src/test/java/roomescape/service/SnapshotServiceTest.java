@@ -0,0 +1,107 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.dao.ReservationDao;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.dao.snapshot.SnapshotCounts;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.snapshot.SnapshotResponse;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.snapshot.directory=build/test-snapshots",
+                "spring.datasource.url=jdbc:h2:mem:snapshot"
+        }
+)
+class SnapshotServiceTest {
+
+    private static final Path DIRECTORY = Path.of("build/test-snapshots");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReservationTimeDao reservationTimeDao;
+    @Autowired
+    private ReservationDao reservationDao;
+    @Autowired
+    private SnapshotService snapshotService;
+    private long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        long timeId = reservationTimeDao.add(new ReservationTime(null, ReservationStartAt.from("10:00")));
+        ReservationTime reservationTime = reservationTimeDao.findById(timeId).orElseThrow();
+        reservationDao.add(new Reservation(
+                null, new ReservationName("daon"), ReservationDate.from("2024-04-24"), reservationTime));
+        reservationId = reservationDao.add(new Reservation(
+                null, new ReservationName("ikjo"), ReservationDate.from("2024-04-25"), reservationTime));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        if (Files.exists(DIRECTORY)) {
+            try (Stream<Path> files = Files.walk(DIRECTORY)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("예약 시간과 예약을 압축 파일로 내보낸다.")
+    void takeSnapshot() {
+        //when
+        SnapshotResponse response = snapshotService.takeSnapshot();
+
+        //then
+        assertAll(
+                () -> assertThat(response.getReservationTimes()).isEqualTo(1),
+                () -> assertThat(response.getReservations()).isEqualTo(2),
+                () -> assertThat(DIRECTORY.resolve(response.getFileName())).exists(),
+                () -> assertThat(snapshotService.findLatest()).contains(DIRECTORY.resolve(response.getFileName()))
+        );
+    }
+
+    @Test
+    @DisplayName("가장 최근 스냅숏에서 같은 아이디로 복원하고 이후 아이디는 이어서 발급한다.")
+    void restoreLatest() {
+        //given
+        snapshotService.takeSnapshot();
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+
+        //when
+        SnapshotCounts counts = snapshotService.restoreLatest().orElseThrow();
+
+        //then
+        ReservationTime restoredTime = reservationTimeDao.findAll().get(0);
+        long nextId = reservationDao.add(new Reservation(
+                null, new ReservationName("brown"), ReservationDate.from("2024-04-26"), restoredTime));
+        assertAll(
+                () -> assertThat(counts).isEqualTo(new SnapshotCounts(1, 2)),
+                () -> assertThat(reservationDao.findById(reservationId)).isPresent(),
+                () -> assertThat(nextId).isGreaterThan(reservationId)
+        );
+    }
+}
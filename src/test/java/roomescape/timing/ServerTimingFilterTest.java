@@ -0,0 +1,72 @@
+package roomescape.timing;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "roomescape.server-timing.enabled=true",
+                "spring.datasource.url=jdbc:h2:mem:server-timing"
+        }
+)
+class ServerTimingFilterTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    @DisplayName("API 응답에 구간별 처리 시간을 Server-Timing 헤더로 담는다.")
+    void serverTimingHeaderTest() {
+        RestAssured.given().log().all()
+                .when().get("/reservations")
+                .then().log().all()
+                .statusCode(200)
+                .header("Server-Timing", allOf(
+                        containsString("db;dur="),
+                        containsString("mapping;dur="),
+                        containsString("serialization;dur="),
+                        containsString("total;dur=")
+                ));
+    }
+
+    @Test
+    @DisplayName("먼저 흘려보내는 관리자 예약 화면도 헤더가 확정되기 전에 Server-Timing을 담는다.")
+    void streamedPageServerTimingTest() {
+        RestAssured.given().log().all()
+                .when().get("/admin/reservation")
+                .then().log().all()
+                .statusCode(200)
+                .header("Server-Timing", containsString("total;dur="))
+                .body(containsString("table-body"));
+    }
+
+    @Test
+    @DisplayName("진행 상황을 흘려보내는 가져오기 응답도 본문을 모아두지 않고 Server-Timing을 담는다.")
+    void streamedImportServerTimingTest() {
+        RestAssured.given().log().all()
+                .contentType("text/csv")
+                .body("daon,2024-04-24,-1\n")
+                .when().post("/reservations/import")
+                .then().log().all()
+                .statusCode(200)
+                .contentType(containsString(MediaType.APPLICATION_NDJSON_VALUE))
+                .header("Server-Timing", notNullValue())
+                .body(containsString("\"failed\":1"));
+    }
+}